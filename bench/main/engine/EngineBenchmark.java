@@ -0,0 +1,210 @@
+package main.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks of the {@link Engine} behind {@link main.board.Board}, at the
+ * three presets of {@link main.Minesweeper#main(String[])}, a 1000 x 1000
+ * board, a 3 x 100000 strip whose rows span many words of every plane, and a
+ * 30 x 30 board two thirds bombs where almost every cell is numbered.<br>
+ * Every game is drawn from fixed seeds, so two runs on the same machine play
+ * the same boards.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+    /**
+     * The seed of the game played by {@link #reveal()} and {@link #cascade()}.
+     */
+    private static final long SEED = 42;
+
+    /**
+     * The rows, columns and bombs of the board.
+     */
+    @Param({ "9x9x10", "16x16x40", "16x30x99", "1000x1000x150000", "3x100000x60000", "30x30x600" })
+    public String board;
+
+    /**
+     * The {@link Engine} being measured.
+     */
+    private Engine engine;
+
+    /**
+     * {@link Solver} of {@link #engine}.
+     */
+    private Solver solver;
+
+    /**
+     * Seeds of the games started by {@link #reset()} and {@link #solve()}.
+     */
+    private SplittableRandom seeds;
+
+    /**
+     * The numbered cell revealed first in the game of {@link #SEED}.
+     */
+    private int first;
+
+    /**
+     * Every other numbered cell of the game of {@link #SEED}, as
+     * {@code row * colMax + col}.
+     */
+    private int[] numbered;
+
+    /**
+     * The next entry of {@link #numbered} to reveal.
+     */
+    private int next;
+
+    /**
+     * A cell of the largest opening of the game of {@link #SEED}.
+     */
+    private int opening;
+
+    /**
+     * Create the {@link Engine} and find the cells to reveal.
+     */
+    @Setup
+    public void setup() {
+        final String[] size = this.board.split("x");
+        this.engine = new Engine(Integer.parseInt(size[0]), Integer.parseInt(size[1]), Integer.parseInt(size[2]));
+        this.engine.setLogging(false);
+        this.solver = new Solver(this.engine);
+        this.seeds = new SplittableRandom(SEED);
+
+        final Engine engine = this.engine;
+        final int rows = engine.rowMax, cols = engine.colMax;
+        engine.reset(SEED);
+
+        final List<Integer> numbered = new ArrayList<>();
+        final int[] label = new int[rows * cols], queue = new int[rows * cols];
+        int largest = 0;
+        for (int cell = 0; cell < label.length; ++cell) {
+            final int row = cell / cols, col = cell % cols;
+            if (engine.isBomb(row, col))
+                continue;
+            if (engine.getCount(row, col) != 0) {
+                numbered.add(cell);
+                continue;
+            }
+            if (label[cell] != 0)
+                continue;
+
+            // Measure the opening of cell by the cells a reveal would uncover.
+            int head = 0, tail = 0;
+            queue[tail++] = cell;
+            label[cell] = 1;
+            while (head < tail) {
+                final int at = queue[head++];
+                if (engine.getCount(at / cols, at % cols) != 0)
+                    continue;
+                for (int r = Math.max(at / cols - 1, 0); r <= Math.min(at / cols + 1, rows - 1); ++r)
+                    for (int c = Math.max(at % cols - 1, 0); c <= Math.min(at % cols + 1, cols - 1); ++c)
+                        if (label[r * cols + c] == 0 && !engine.isBomb(r, c)) {
+                            label[r * cols + c] = 1;
+                            queue[tail++] = r * cols + c;
+                        }
+            }
+            if (tail > largest) {
+                largest = tail;
+                this.opening = cell;
+            }
+        }
+
+        this.first = numbered.remove(0);
+        this.numbered = numbered.stream().mapToInt(Integer::intValue).toArray();
+        this.next = this.numbered.length;
+    }
+
+    /**
+     * Reveal the largest opening of a fresh game, which includes a
+     * {@link #reset()}.
+     *
+     * @return the number of cells revealed.
+     */
+    @Benchmark
+    public int cascade() {
+        this.engine.reset(SEED);
+        this.engine.reveal(this.opening / this.engine.colMax, this.opening % this.engine.colMax);
+        return this.engine.getNumReveal();
+    }
+
+    /**
+     * Read the count of every cell of the board.
+     *
+     * @return the sum of the counts.
+     */
+    @Benchmark
+    public int count() {
+        final Engine engine = this.engine;
+        final int width = engine.getWidth();
+        int sum = 0;
+        for (int row = 1; row <= engine.rowMax; ++row)
+            for (int index = row * width + 1, end = index + engine.colMax; index < end; ++index)
+                sum += engine.count(index);
+        return sum;
+    }
+
+    /**
+     * Start a new game.
+     *
+     * @return the seed of the game.
+     */
+    @Benchmark
+    public long reset() {
+        this.engine.reset(this.seeds);
+        return this.engine.getSeed();
+    }
+
+    /**
+     * Reveal a single numbered cell.<br>
+     * Once every numbered cell is revealed the game is reset, which is amortised
+     * over all of them.
+     *
+     * @return {@code true} if the cell was revealed.
+     */
+    @Benchmark
+    public boolean reveal() {
+        final int cols = this.engine.colMax;
+        if (this.next == this.numbered.length) {
+            this.engine.reset(SEED);
+            this.engine.reveal(this.first / cols, this.first % cols);
+            this.next = 0;
+        }
+        final int cell = this.numbered[this.next++];
+        return this.engine.reveal(cell / cols, cell % cols);
+    }
+
+    /**
+     * Play a new game from its middle until {@link Solver} wins or needs to guess.
+     *
+     * @return {@code true} if the game was won.
+     */
+    @Benchmark
+    public boolean solve() {
+        this.engine.reset(this.seeds);
+        this.engine.reveal(this.engine.rowMax / 2, this.engine.colMax / 2);
+        return this.solver.solve();
+    }
+}
@@ -3,16 +3,14 @@ package main;
 import java.awt.Font;
 import java.awt.GridLayout;
 import java.awt.Image;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.net.URL;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.logging.StreamHandler;
 
 import javax.swing.ImageIcon;
 import javax.swing.JFrame;
@@ -22,9 +20,13 @@ import javax.swing.JPanel;
 import javax.swing.JTextField;
 import javax.swing.UIManager;
 
+import main.board.Board;
 import main.board.Panel;
+import main.engine.Snapshot;
 import main.listener.Window;
+import main.logging.AsyncHandler;
 import main.logging.CustomFormatter;
+import resources.Assets;
 
 /**
  * Initialized the logic for the game.<br>
@@ -35,10 +37,17 @@ import main.logging.CustomFormatter;
  */
 public class Minesweeper {
 	/**
-	 * {@link Logger}
+	 * {@link Logger}, at the {@link Level} named by the {@value #LOG_LEVEL}
+	 * system property, {@link Level#INFO} by default.
 	 */
 	public static final Logger logger;
 
+	/**
+	 * System property naming the {@link Level} of {@link #logger}, for example
+	 * {@code -Dminesweeper.log=FINE} to opt in to the records of every action.
+	 */
+	public static final String LOG_LEVEL = "minesweeper.log";
+
 	/**
 	 * Primitive type array of {@link String} to chose a difficulty from.
 	 */
@@ -60,50 +69,63 @@ public class Minesweeper {
 	private static final Font arial = new Font("Arial", Font.PLAIN, 20);
 
 	static {
-		FileHandler file = null;
+		logger = Logger.getLogger("Minesweeper");
+		logger.setUseParentHandlers(false);
+		Level level = Level.INFO;
 		try {
-			file = new FileHandler("./out.log", false);
-		} catch (final SecurityException e) {
-			Minesweeper.logger.throwing("Minesweeper", "static", e);
-		} catch (final IOException e) {
-			Minesweeper.logger.throwing("Minesweeper", "static", e);
+			level = Level.parse(System.getProperty(LOG_LEVEL, level.getName()));
+		} catch (final IllegalArgumentException e) {
+			System.err.println("Unknown " + LOG_LEVEL + ": " + e.getMessage());
 		}
-		file.setFormatter(new CustomFormatter());
+		logger.setLevel(level);
 
-		logger = Logger.getLogger("Minesweeper");
-		logger.setLevel(Level.ALL);
-		logger.setUseParentHandlers(false);
-		logger.addHandler(file);
-
-		File f = new File("./src/resources/icon.png");
-		if (!f.exists()) {
-			f.mkdirs();
-			try {
-				f.createNewFile();
-				URL url = new URL("https://raw.githubusercontent.com/MrPineapple065/Minesweeper/master/src/resources/icon.png");
-				ReadableByteChannel rbc = Channels.newChannel(url.openStream());
-				FileOutputStream fout = new FileOutputStream(f);
-				fout.getChannel().transferFrom(rbc, 0, Long.MAX_VALUE);
-				fout.close();
-			} catch (IOException ioe) {
-				logger.throwing("Minesweeper", "static", ioe);
+		final CustomFormatter formatter = new CustomFormatter();
+		final StreamHandler console = new StreamHandler(System.out, formatter) {
+			@Override
+			public synchronized void close() throws SecurityException {
+				this.flush();
 			}
+		};
+		console.setLevel(Level.ALL);
+
+		FileHandler file = null;
+		try {
+			file = new FileHandler("./out.log", false);
+			file.setFormatter(formatter);
+		} catch (final SecurityException | IOException e) {
+			System.err.println("Cannot open ./out.log: " + e);
 		}
 
-		icon = new ImageIcon("./src/resources/icon.png");
+		final AsyncHandler async = file != null ? new AsyncHandler(console, file) : new AsyncHandler(console);
+		logger.addHandler(async);
+		Runtime.getRuntime().addShutdownHook(new Thread(async::close, "AsyncHandler shutdown"));
+
+		Assets.load();
+		icon = new ImageIcon(Assets.get("icon"));
 		icon_image = icon.getImage();
 	}
 
 	/**
-	 * Main method
+	 * Main method<br>
+	 * {@code --simulate} followed by the arguments of {@link Simulator#main(String[])}
+	 * runs a headless simulation instead of the game.
 	 * 
 	 * @param args primitive type array of {@link String}
 	 */
 	public static void main(String[] args) {
+		if (args.length > 0 && args[0].equals("--simulate")) {
+			Simulator.main(Arrays.copyOfRange(args, 1, args.length));
+			return;
+		}
+
 		JFrame frame = new JFrame("Minesweeper");
 		frame.setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
 
-		Panel panel = null;
+		Panel panel = Minesweeper.continueSaved();
+		if (panel != null) {
+			Minesweeper.show(frame, panel);
+			return;
+		}
 
 		final int difficulty = JOptionPane.showOptionDialog(null, "Choose Difficulty", "", JOptionPane.OK_OPTION,
 				JOptionPane.PLAIN_MESSAGE, icon, options, "Intermediate");
@@ -164,13 +186,47 @@ public class Minesweeper {
 				return;
 		}
 
+		Minesweeper.show(frame, panel);
+	}
+
+	/**
+	 * Offer to continue the game saved in {@link Board#SAVE}.
+	 * 
+	 * @return a {@link Panel} holding the saved game, or {@code null} if there is
+	 *         none or it is declined.
+	 */
+	private static Panel continueSaved() {
+		if (!Files.exists(Board.SAVE))
+			return null;
+		if (JOptionPane.showConfirmDialog(null, "Continue the saved game?", "", JOptionPane.YES_NO_OPTION,
+				JOptionPane.PLAIN_MESSAGE, icon) != JOptionPane.YES_OPTION)
+			return null;
+
+		try {
+			final Snapshot snapshot = Snapshot.read(Board.SAVE);
+			final Panel panel = new Panel(snapshot.rowMax, snapshot.colMax, snapshot.numBombs);
+			panel.board.restore(snapshot);
+			Minesweeper.logger.info("Continue saved game");
+			return panel;
+		} catch (IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+			Minesweeper.logger.log(Level.WARNING, "Cannot continue saved game", e);
+			JOptionPane.showMessageDialog(null, "Cannot continue the saved game", "", JOptionPane.ERROR_MESSAGE, icon);
+			return null;
+		}
+	}
+
+	/**
+	 * Show {@code panel} in {@code frame}.
+	 * 
+	 * @param frame is the {@link JFrame} of the game.
+	 * @param panel is the {@link Panel} to show.
+	 */
+	private static void show(JFrame frame, Panel panel) {
 		Objects.requireNonNull(panel, "panel cannot be null");
 		frame.addWindowListener(new Window());
 		frame.add(panel);
 		frame.pack();
 		frame.setIconImage(icon_image);
-		frame.setSize(panel.getBoard().colMax * 50, (panel.getBoard().rowMax + 1) * 50);
-		frame.setResizable(false);
 		frame.setLocationRelativeTo(null);
 		frame.setVisible(true);
 	}
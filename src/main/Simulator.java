@@ -0,0 +1,386 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import main.engine.Engine;
+import main.engine.Probability;
+import main.engine.Solver;
+
+/**
+ * Headless Monte Carlo simulation of many games.<br>
+ * Every game is opened in the middle, played by {@link Solver} and, whenever no
+ * rule applies, continued with a guess. Games are dealt out in chunks of
+ * {@link #CHUNK} to a pool of threads, and chunk {@code i} always draws its
+ * games from the {@code i}th split of one master {@link SplittableRandom}, so
+ * the same seed gives the same games whatever the number of threads.
+ *
+ * <pre>
+ * java main.Simulator beginner|intermediate|expert|ROWS COLS BOMBS [-n GAMES] [-t THREADS] [-s SEED] [-g safest|random]
+ * </pre>
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Simulator {
+	/**
+	 * The number of games played by one task.
+	 */
+	public static final int CHUNK = 256;
+
+	/**
+	 * How to continue when no rule applies.
+	 */
+	public enum Guess {
+		/**
+		 * Reveal the cell least likely to hold a bomb, by {@link Probability}.
+		 */
+		SAFEST,
+
+		/**
+		 * Reveal a hidden, unflagged cell at random.
+		 */
+		RANDOM
+	}
+
+	/**
+	 * The number of rows.
+	 */
+	public final int rowMax;
+
+	/**
+	 * The number of columns.
+	 */
+	public final int colMax;
+
+	/**
+	 * The number of bombs.
+	 */
+	public final int numBombs;
+
+	/**
+	 * How guesses are made.
+	 */
+	public final Guess guess;
+
+	/**
+	 * Create a {@code Simulator} of games of one size.
+	 *
+	 * @param rowMax   is the number of rows.
+	 * @param colMax   is the number of columns.
+	 * @param numBombs is the number of bombs.
+	 * @param guess    is how guesses are made.
+	 *
+	 * @throws IndexOutOfBoundsException if {@code rowMax} or {@code colMax} is
+	 *                                   less than 3.
+	 * @throws IllegalArgumentException  if {@code numBombs} does not fit.
+	 */
+	public Simulator(int rowMax, int colMax, int numBombs, Guess guess)
+			throws IndexOutOfBoundsException, IllegalArgumentException {
+		final Engine engine = new Engine(rowMax, colMax, numBombs);
+		this.rowMax = engine.rowMax;
+		this.colMax = engine.colMax;
+		this.numBombs = engine.numBombs;
+		this.guess = guess;
+	}
+
+	/**
+	 * Count the clicks needed to clear the board of {@code engine} without
+	 * flagging, its 3BV: one per opening plus one per numbered cell not on the
+	 * edge of an opening.
+	 *
+	 * @param engine is an {@link Engine} whose bombs are placed.
+	 *
+	 * @return the 3BV of the board.
+	 */
+	static int bbbv(Engine engine) {
+		final int rows = engine.rowMax, cols = engine.colMax;
+		final boolean[] seen = new boolean[rows * cols];
+		final int[] queue = new int[rows * cols];
+		int bbbv = 0;
+
+		for (int cell = 0; cell < seen.length; ++cell) {
+			if (seen[cell] || engine.isBomb(cell / cols, cell % cols) || engine.getCount(cell / cols, cell % cols) != 0)
+				continue;
+
+			++bbbv;
+			int head = 0, tail = 0;
+			queue[tail++] = cell;
+			seen[cell] = true;
+			while (head < tail) {
+				final int next = queue[head++], row = next / cols, col = next % cols;
+				if (engine.getCount(row, col) != 0)
+					continue;
+				for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, rows - 1); ++r) {
+					for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, cols - 1); ++c) {
+						if (!seen[r * cols + c]) {
+							seen[r * cols + c] = true;
+							queue[tail++] = r * cols + c;
+						}
+					}
+				}
+			}
+		}
+
+		for (int cell = 0; cell < seen.length; ++cell)
+			if (!seen[cell] && !engine.isBomb(cell / cols, cell % cols))
+				++bbbv;
+		return bbbv;
+	}
+
+	/**
+	 * Choose the cell to guess.
+	 *
+	 * @param engine is the {@link Engine} of the game.
+	 * @param rand   is the {@link SplittableRandom} of the calling thread.
+	 *
+	 * @return {@code row * colMax + col} of a hidden, unflagged cell.
+	 */
+	private int choose(Engine engine, SplittableRandom rand) {
+		final int cols = this.colMax;
+		if (this.guess == Guess.SAFEST) {
+			final double[] chance = new Probability(engine).compute();
+			int best = -1;
+			for (int cell = 0; cell < chance.length; ++cell)
+				if (!engine.isRevealed(cell / cols, cell % cols) && !engine.isFlagged(cell / cols, cell % cols)
+						&& (best < 0 || chance[cell] < chance[best]))
+					best = cell;
+			return best;
+		}
+
+		int cell;
+		do {
+			cell = rand.nextInt(this.rowMax * cols);
+		} while (engine.isRevealed(cell / cols, cell % cols) || engine.isFlagged(cell / cols, cell % cols));
+		return cell;
+	}
+
+	/**
+	 * Play {@code games} games, each from a seed drawn from {@code rand}.
+	 *
+	 * @param games is the number of games.
+	 * @param rand  is the split of the master {@link SplittableRandom} of this
+	 *              chunk.
+	 *
+	 * @return the {@link Result} of every game.
+	 */
+	private Result play(int games, SplittableRandom rand) {
+		final Engine engine = new Engine(this.rowMax, this.colMax, this.numBombs);
+		final Solver solver = new Solver(engine);
+		final Result result = new Result(games);
+
+		for (int i = 0; i < games; ++i) {
+			final long start = System.nanoTime();
+			engine.reset(rand);
+			engine.reveal(this.rowMax / 2, this.colMax / 2);
+			result.bbbv[i] = bbbv(engine);
+
+			while (!solver.solve() && !engine.getGameOver()) {
+				final int cell = this.choose(engine, rand);
+				engine.reveal(cell / this.colMax, cell % this.colMax);
+			}
+
+			result.times[i] = System.nanoTime() - start;
+			if (engine.isWon())
+				++result.won;
+		}
+		return result;
+	}
+
+	/**
+	 * Play {@code games} games on {@code threads} threads.
+	 *
+	 * @param games   is the number of games.
+	 * @param threads is the number of threads.
+	 * @param seed    is the seed of the master {@link SplittableRandom}.
+	 *
+	 * @return the {@link Result} of every game, in chunk order.
+	 *
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public Result run(int games, int threads, long seed) throws InterruptedException {
+		final SplittableRandom master = new SplittableRandom(seed);
+		final ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+			final Thread thread = new Thread(r, "Simulator");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try {
+			final List<Future<Result>> chunks = new ArrayList<>();
+			for (int start = 0; start < games; start += CHUNK) {
+				final int size = Math.min(CHUNK, games - start);
+				final SplittableRandom rand = master.split();
+				chunks.add(pool.submit(() -> this.play(size, rand)));
+			}
+
+			final Result result = new Result(games);
+			int at = 0;
+			for (Future<Result> chunk : chunks) {
+				final Result part = chunk.get();
+				System.arraycopy(part.times, 0, result.times, at, part.times.length);
+				System.arraycopy(part.bbbv, 0, result.bbbv, at, part.bbbv.length);
+				result.won += part.won;
+				at += part.times.length;
+			}
+			return result;
+		} catch (ExecutionException ee) {
+			throw new IllegalStateException("Simulation failed", ee.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Parse the arguments, run the simulation and print its summary.
+	 *
+	 * @param args is a preset or the rows, columns and bombs, followed by options.
+	 */
+	public static void main(String[] args) {
+		Logger.getLogger("Minesweeper").setLevel(Level.WARNING);
+
+		try {
+			int at = 0, rows, cols, bombs;
+			switch (args.length == 0 ? "" : args[0].toLowerCase(Locale.ROOT)) {
+				case "beginner":
+					rows = 9;
+					cols = 9;
+					bombs = 10;
+					++at;
+					break;
+				case "intermediate":
+					rows = 16;
+					cols = 16;
+					bombs = 40;
+					++at;
+					break;
+				case "expert":
+					rows = 16;
+					cols = 30;
+					bombs = 99;
+					++at;
+					break;
+				default:
+					if (args.length < 3)
+						throw new IllegalArgumentException("Missing board size");
+					rows = Integer.parseInt(args[at++]);
+					cols = Integer.parseInt(args[at++]);
+					bombs = Integer.parseInt(args[at++]);
+			}
+
+			int games = 10_000, threads = Runtime.getRuntime().availableProcessors();
+			long seed = System.nanoTime();
+			Guess guess = Guess.SAFEST;
+			for (; at < args.length; at += 2) {
+				if (at + 1 == args.length)
+					throw new IllegalArgumentException("Missing value of " + args[at]);
+				switch (args[at]) {
+					case "-n":
+						games = Integer.parseInt(args[at + 1]);
+						break;
+					case "-t":
+						threads = Integer.parseInt(args[at + 1]);
+						break;
+					case "-s":
+						seed = Long.parseLong(args[at + 1]);
+						break;
+					case "-g":
+						guess = Guess.valueOf(args[at + 1].toUpperCase(Locale.ROOT));
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown option " + args[at]);
+				}
+			}
+			if (games < 1 || threads < 1)
+				throw new IllegalArgumentException("Games and threads must be positive");
+
+			final Simulator simulator = new Simulator(rows, cols, bombs, guess);
+			final long start = System.nanoTime();
+			final Result result = simulator.run(games, threads, seed);
+			final double seconds = (System.nanoTime() - start) / 1e9;
+
+			System.out.printf("%d x %d with %d bombs, %d games on %d threads, seed %d, %s guesses%n", simulator.rowMax,
+					simulator.colMax, simulator.numBombs, games, threads, seed, guess.name().toLowerCase(Locale.ROOT));
+			System.out.println(result.summary(seconds));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			System.err.println(e.getMessage());
+			System.err.println("Usage: java main.Simulator beginner|intermediate|expert|ROWS COLS BOMBS"
+					+ " [-n GAMES] [-t THREADS] [-s SEED] [-g safest|random]");
+			System.exit(2);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Outcome of a number of games.
+	 */
+	public static final class Result {
+		/**
+		 * The nanoseconds taken by every game.
+		 */
+		public final long[] times;
+
+		/**
+		 * The 3BV of every game.
+		 */
+		public final int[] bbbv;
+
+		/**
+		 * The number of games won.
+		 */
+		public int won;
+
+		/**
+		 * Create an empty {@code Result} of {@code games} games.
+		 *
+		 * @param games is the number of games.
+		 */
+		Result(int games) {
+			this.times = new long[games];
+			this.bbbv = new int[games];
+		}
+
+		/**
+		 * Describe the win rate, throughput, mean 3BV and time per game.
+		 *
+		 * @param seconds is the wall time of the simulation.
+		 *
+		 * @return a few lines of text.
+		 */
+		public String summary(double seconds) {
+			final int games = this.times.length;
+			final long[] sorted = this.times.clone();
+			Arrays.sort(sorted);
+
+			return String.format(Locale.ROOT,
+					"win rate  %.2f%% (%d / %d)%n" + "speed     %.0f games/s%n" + "3BV       %.2f mean%n"
+							+ "time/game p50 %.1f us, p90 %.1f us, p99 %.1f us, max %.1f us",
+					100.0 * this.won / games, this.won, games, games / seconds,
+					Arrays.stream(this.bbbv).average().orElse(0), percentile(sorted, 50) / 1e3,
+					percentile(sorted, 90) / 1e3, percentile(sorted, 99) / 1e3, sorted[games - 1] / 1e3);
+		}
+
+		/**
+		 * Determine a percentile by the nearest rank method.
+		 *
+		 * @param sorted  is the sorted sample.
+		 * @param percent is the percentile, in (0, 100].
+		 *
+		 * @return the smallest value with at least {@code percent}% of the sample at
+		 *         or below it.
+		 */
+		private static long percentile(long[] sorted, int percent) {
+			return sorted[Math.max((int) Math.ceil(percent / 100.0 * sorted.length) - 1, 0)];
+		}
+	}
+}
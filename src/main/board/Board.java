@@ -1,28 +1,58 @@
 package main.board;
 
-import java.awt.Color;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
-import java.util.Random;
-import java.util.TimerTask;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
 
-import javax.swing.BorderFactory;
 import javax.swing.JOptionPane;
 import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 
 import main.Minesweeper;
+import main.engine.Change;
+import main.engine.CommandQueue;
+import main.engine.Engine;
+import main.engine.Generator;
+import main.engine.Journal;
+import main.engine.Pregenerator;
+import main.engine.Probability;
+import main.engine.Replay;
+import main.engine.Snapshot;
+import main.engine.Solver;
 
 /**
- * Minesweeper Board
+ * Minesweeper Board<br>
+ * Swing controller over an {@link Engine}, which owns all of the game state, and
+ * the {@link BoardView} painting it.<br>
+ * The engine is only touched by the thread of its {@link CommandQueue}: every
+ * action is queued as a command, and the {@link Change}s it publishes are copied
+ * on the event dispatch thread into a window of the visible state around the
+ * viewport, which is all the interface reads. The window is the only copy of
+ * the board outside the engine, so its size follows the screen rather than the
+ * board. A long reset or cascade therefore never blocks input,
+ * and a large opening is streamed to the view in growing chunks.
  * 
  * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
- * @version 2022 06 03
+ * @version 2026 10 18
  */
 public class Board {
-    /**
-     * {@link Random}
-     */
-    public static final Random rand = new Random();
-
     /**
      * The maximum number of rows.
      */
@@ -39,7 +69,7 @@ public class Board {
     public final int numBombs;
 
     /**
-     * The number of {@link Tile} that can be revealed
+     * The number of cells that can be revealed
      */
     public final int revealableTile;
 
@@ -49,37 +79,139 @@ public class Board {
     public final Panel panel;
 
     /**
-     * An 2D {@code Array} of {@link Tile}
+     * The {@link Engine} holding the state of the game, only touched through
+     * {@link #queue}.
      */
-    private final Tile[][] board;
+    private final Engine engine;
 
     /**
-     * {@link MTimer}
+     * {@link Pregenerator} preparing the next games of {@link #engine}, or
+     * {@code null} if the board is too large to keep spare games.
      */
-    private MTimer timer = new MTimer();
+    private final Pregenerator pregenerator;
 
     /**
-     * A boolean determine if the first click has been used.<br>
-     * This guarentees that the first click is not a bomb.
+     * {@link CommandQueue} running every action on {@link #engine}.
      */
-    private boolean firstClick;
+    private final CommandQueue queue;
 
     /**
-     * A boolean determining if the game is over.
+     * The state of a cell outside {@link #window} or not yet received.
      */
-    private boolean isGameOver;
+    private static final byte UNKNOWN = (byte) 0x80;
 
     /**
-     * The number of {@link Tile} that are revealed
+     * The visible state of the cells of the window around the viewport row by
+     * row, in the format of {@link Change}, or {@link #UNKNOWN}.
+     */
+    private byte[] window = new byte[0];
+
+    /**
+     * The first row of {@link #window}.
+     */
+    private int windowRow;
+
+    /**
+     * The first column of {@link #window}.
+     */
+    private int windowCol;
+
+    /**
+     * The number of rows of {@link #window}.
+     */
+    private int windowRows;
+
+    /**
+     * The number of columns of {@link #window}.
+     */
+    private int windowCols;
+
+    /**
+     * The number of bombs left to flag.
+     */
+    private int flags;
+
+    /**
+     * The number of cells revealed.
      */
     private int numReveal;
 
     /**
-     * The number of bombs left to flag. <br>
-     * This number can go negative, signifying there are more flags then there are
-     * bombs.
+     * {@code row * colMax + col} of the bomb that ended the game, or {@code -1}.
+     */
+    private int exploded = -1;
+
+    /**
+     * Whether the game is over.
+     */
+    private boolean isGameOver;
+
+    /**
+     * Whether the game is won.
+     */
+    private boolean isWon;
+
+    /**
+     * {@link Change#startTime} of the last {@link Change}.
+     */
+    private long startTime;
+
+    /**
+     * {@link Change#endTime} of the last {@link Change}.
+     */
+    private long endTime;
+
+    /**
+     * The number of games started, so that results of a previous game are
+     * dropped.
+     */
+    private int game;
+
+    /**
+     * {@link GameClock} of the game, shown by {@link Panel#timeLabel}.
+     */
+    private final GameClock clock;
+
+    /**
+     * The number of cells of an opening revealed before it is first shown.
+     */
+    public static final int CHUNK = 1 << 14;
+
+    /**
+     * The milliseconds each shutdown hook waits for {@link #queue}.
+     */
+    private static final long EXIT_TIMEOUT = 5_000;
+
+    /**
+     * The file the game in progress is saved to on exit.
+     */
+    public static final Path SAVE = Paths.get("./save.snapshot");
+
+    /**
+     * Whether every game is generated to be won without guessing.
+     */
+    private boolean noGuess;
+
+    /**
+     * {@link Timer} pacing the {@link Replay} being shown, or {@code null}.
+     */
+    private Timer replay;
+
+    /**
+     * Whether the safest cell is shown after every move.
+     */
+    private boolean hints;
+
+    /**
+     * {@code row * colMax + col} of the cell least likely to hold a bomb, or
+     * {@code -1}.
      */
-    private int numFlag;
+    private int hint = -1;
+
+    /**
+     * The number of hints requested, so that only the latest is shown.
+     */
+    private int hintRequest;
 
     /**
      * Creates a {@code Board} initialising all atributes.
@@ -98,100 +230,160 @@ public class Board {
     public Board(Panel panel, int rowMax, int colMax, int numBombs)
             throws IndexOutOfBoundsException, IllegalArgumentException {
         this.panel = Objects.requireNonNull(panel, "Board must be on MinesweeperPanel");
+        this.clock = new GameClock(seconds -> panel.updateTLabel((int) seconds));
+        this.engine = new Engine(rowMax, colMax, numBombs);
+
+        this.rowMax = this.engine.rowMax;
+        this.colMax = this.engine.colMax;
+        this.numBombs = this.engine.numBombs;
+        this.revealableTile = this.engine.revealableTile;
+        final int capacity = Pregenerator.capacity(this.rowMax, this.colMax, 2);
+        this.pregenerator = capacity > 0 ? new Pregenerator(this.engine, capacity) : null;
+        this.flags = this.numBombs;
+
+        this.openJournal();
+        this.queue = new CommandQueue(this.engine, change -> SwingUtilities.invokeLater(() -> this.apply(change)));
+        Runtime.getRuntime().addShutdownHook(new Thread(this::save, "Snapshot shutdown"));
+    }
 
-        if (rowMax < 3)
-            throw new IndexOutOfBoundsException("Illegal maximum number of rows: " + rowMax);
-        else
-            this.rowMax = rowMax;
-
-        if (colMax < 3)
-            throw new IndexOutOfBoundsException("Illegal maximun number of columns: " + colMax);
-        else
-            this.colMax = colMax;
-
-        if (numBombs > this.rowMax * this.colMax - 1 || numBombs < 1)
-            throw new IllegalArgumentException("Illegal number of bombs: " + numBombs);
-        else
-            this.numBombs = numBombs;
-
-        this.revealableTile = (this.rowMax * this.colMax) - this.numBombs;
-        this.board = new Tile[this.rowMax][this.colMax];
+    /**
+     * Copy {@code change} into the visible state and repaint its region.
+     * 
+     * @param change is the {@link Change} published by {@link #queue}.
+     */
+    private void apply(Change change) {
+        change.copyTo(this.window, this.windowRow, this.windowCol, this.windowRows, this.windowCols);
+        this.flags = change.flags;
+        this.numReveal = change.numReveal;
+        this.exploded = change.exploded;
+        this.isGameOver = change.isGameOver;
+        this.isWon = change.isWon;
+        this.startTime = change.startTime;
+        this.endTime = change.endTime;
+
+        if (!change.isEmpty())
+            this.panel.view.repaintRegion(change.rowMin, change.colMin, change.rowMax, change.colMax);
+        this.panel.updateBLabel();
+    }
 
-        this.createBoard();
-        this.reset();
+    /**
+     * Run {@code command} on {@link #engine} and wait for it.
+     * 
+     * @param <T>     is the type of the result.
+     * @param command is the command to run.
+     * 
+     * @return the result of {@code command}.
+     * 
+     * @throws RuntimeException what {@code command} threw.
+     */
+    private <T> T await(Function<? super Engine, ? extends T> command) throws RuntimeException {
+        try {
+            return this.queue.call(command).join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException)
+                throw (RuntimeException) ce.getCause();
+            if (ce.getCause() instanceof Error)
+                throw (Error) ce.getCause();
+            throw ce;
+        }
     }
 
     /**
      * Checks if the game is won.
      */
     private void checkGameOver() {
-        if (this.isGameOver)
+        if (!this.isWon)
             return;
-        if (this.revealableTile != this.numReveal)
-            return;
-        if (this.timer.isRunning)
-            this.setTimer();
+        this.clock.stop(this.endTime);
 
-        JTextArea jta = new JTextArea(String.format("You Win!\nTime: %s sec", this.panel.getTimeLabel().getText()));
+        JTextArea jta = new JTextArea(String.format("You Win!\nTime: %.3f sec", this.clock.elapsedMillis() / 1e3));
         jta.setOpaque(false);
         JOptionPane.showMessageDialog(null, jta, "Congradulations!", JOptionPane.PLAIN_MESSAGE, null);
-        this.setGameOver(true);
     }
 
     /**
-     * Count the number of bombs directly surrounding a tile.
-     * 
-     * @param tile is the center tile
+     * Toggle the flag on the cell at ({@code row}, {@code col}).
      * 
-     * @return the number of bombs directly surrounding {@code tile}.
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
      */
-    private int count(Tile tile) {
-        int count = 0;
-
-        for (int i = tile.row - 1; i < tile.row + 2; ++i)
-            for (int j = tile.col - 1; j < tile.col + 2; ++j)
-                try {
-                    count += this.board[i][j].isBomb() ? 1 : 0;
-                } catch (ArrayIndexOutOfBoundsException aioobe) {
-                    continue;
-                }
-        return tile.setCount(count);
+    public void flag(int row, int col) {
+        if (this.replay != null)
+            return;
+        this.queue.call(engine -> engine.toggleFlag(row, col)).thenAcceptAsync(changed -> {
+            if (changed)
+                this.updateHint();
+        }, SwingUtilities::invokeLater);
     }
 
     /**
-     * Place all {@link Tile} into {@link #board}
+     * Replace the game before its first click with one {@link Solver} wins from
+     * ({@code row}, {@code col}).<br>
+     * The current game is kept if none is found within {@link Generator#BUDGET}.
+     * Flags placed before the first click are carried over to the new game.
+     * Runs on the thread of {@link #queue}.
+     *
+     * @param engine is {@link #engine}.
+     * @param row    is the row of the first click.
+     * @param col    is the column of the first click.
      */
-    private void createBoard() {
-        Minesweeper.logger.info("Creaing Board");
-        for (int row = 0; row < this.board.length; ++row)
-            for (int col = 0; col < this.board[row].length; ++col)
-                this.board[row][col] = new Tile(this.panel, row, col);
+    private static void generateNoGuess(Engine engine, int row, int col) {
+        final long start = System.nanoTime();
+        final OptionalLong seed = Generator.noGuess(engine, row, col, Generator.BUDGET);
+
+        if (seed.isPresent()) {
+            final int[] flags = new int[engine.numBombs - engine.getFlags()];
+            for (int cell = 0, i = 0; i < flags.length; ++cell)
+                if (engine.isFlagged(cell / engine.colMax, cell % engine.colMax))
+                    flags[i++] = cell;
+
+            engine.reset(seed.getAsLong());
+            for (int cell : flags)
+                engine.toggleFlag(cell / engine.colMax, cell % engine.colMax);
+            Minesweeper.logger.info(() -> "No-guess game in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } else {
+            Minesweeper.logger.warning("No no-guess game found in time");
+        }
     }
 
     /**
-     * Decrement the number of flags.
+     * Determine the number of bombs surrounding a revealed cell.
+     * 
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     * 
+     * @return the number of bombs surrounding ({@code row}, {@code col}), or
+     *         {@code 0} if it is not known.
      */
-    public void decFlagCount() {
-        --this.numFlag;
-        this.panel.updateBLabel();
+    public int getCount(int row, int col) {
+        return this.state(row, col) & Change.COUNT;
     }
 
     /**
-     * Returns {@link #board}
+     * Determine the bomb that ended the game.
      * 
-     * @return {@code board}.
+     * @return {@link #exploded}
      */
-    public Tile[][] getBoard() {
-        return this.board;
+    public int getExploded() {
+        return this.exploded;
     }
 
     /**
-     * Determine the number of {@link Tile} that have been flagged.
+     * Determine the number of bombs left to flag.
      * 
-     * @return {@link #numFlag}
+     * @return {@link #flags}
      */
     public int getFlags() {
-        return this.numFlag;
+        return this.flags;
+    }
+
+    /**
+     * Determine the cell shown as the safest.
+     * 
+     * @return {@link #hint}
+     */
+    public int getHint() {
+        return this.hint;
     }
 
     /**
@@ -204,7 +396,7 @@ public class Board {
     }
 
     /**
-     * Determine the number of {@link Tile} that have been revealed.
+     * Determine the number of cells that have been revealed.
      * 
      * @return {@link #numReveal}
      */
@@ -213,7 +405,7 @@ public class Board {
     }
 
     /**
-     * Determine the number of {@link Tile} that can be revealed.
+     * Determine the number of cells that can be revealed.
      * 
      * @return {@link #revealableTile}
      */
@@ -222,194 +414,524 @@ public class Board {
     }
 
     /**
-     * Returns {@link Tile} of {@link #board} located at ({@code row}, {@code col}).
+     * Determine if a cell is shown as a bomb, which only happens once the game
+     * is lost.
+     * 
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
      * 
-     * @param row is the row of {@code Tile}
-     * @param col is the column of {@code Tile}
-     * @return {@link Tile} at position ({@code row}, {@code col}).
+     * @return {@code true} if ({@code row}, {@code col}) is a bomb of a lost
+     *         game.
      */
-    public Tile getTile(int row, int col) {
-        return this.board[row][col];
+    public boolean isBomb(int row, int col) {
+        return (this.state(row, col) & Change.BOMB) != 0;
     }
 
     /**
-     * Increment the number of flags.
+     * Determine if a cell is flagged.
+     * 
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     * 
+     * @return {@code true} if ({@code row}, {@code col}) is flagged.
      */
-    public void incFlagCount() {
-        ++this.numFlag;
-        this.panel.updateBLabel();
+    public boolean isFlagged(int row, int col) {
+        return (this.state(row, col) & Change.FLAGGED) != 0;
     }
 
     /**
-     * Creates a new game.
+     * Determine if the safest cell is shown.
+     * 
+     * @return {@link #hints}
      */
-    public void reset() {
-        Minesweeper.logger.info("Reset board");
+    public boolean isHints() {
+        return this.hints;
+    }
 
-        if (this.timer.isRunning)
-            this.setTimer();
+    /**
+     * Determine if games are generated to be won without guessing.
+     * 
+     * @return {@link #noGuess}
+     */
+    public boolean isNoGuess() {
+        return this.noGuess;
+    }
 
-        this.isGameOver = false;
-        this.firstClick = true;
-        this.numFlag = this.numBombs;
-        this.numReveal = 0;
+    /**
+     * Determine if the state of a cell is known, which is only the case inside
+     * the window around the viewport once {@link #queue} has sent it.
+     * 
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     * 
+     * @return {@code true} if ({@code row}, {@code col}) is known.
+     */
+    public boolean isKnown(int row, int col) {
+        return this.state(row, col) != UNKNOWN;
+    }
 
-        for (Tile[] row : this.board)
-            for (Tile tile : row)
-                tile.reset();
+    /**
+     * Determine if a cell is revealed.
+     * 
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     * 
+     * @return {@code true} if ({@code row}, {@code col}) is revealed.
+     */
+    public boolean isRevealed(int row, int col) {
+        return (this.state(row, col) & Change.REVEALED) != 0;
+    }
 
-        for (int i = 0; i < this.numBombs; ++i) {
-            int x = rand.nextInt(this.rowMax), y = rand.nextInt(this.colMax);
-            while (this.board[x][y].isBomb()) {
-                x = rand.nextInt(this.rowMax);
-                y = rand.nextInt(this.colMax);
-            }
-            this.board[x][y].setBomb(true);
+    /**
+     * Determine if the game is won.
+     * 
+     * @return {@link #isWon}
+     */
+    public boolean isWon() {
+        return this.isWon;
+    }
+
+    /**
+     * Run {@code command} on {@link #engine} from a shutdown hook, waiting at most
+     * {@link #EXIT_TIMEOUT} so that a stuck engine thread cannot stop the JVM from
+     * exiting.
+     * 
+     * @param action  describes {@code command} in the log.
+     * @param command is the command to run.
+     */
+    private void onExit(String action, Consumer<? super Engine> command) {
+        try {
+            this.queue.submit(command).get(EXIT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ee) {
+            Minesweeper.logger.log(Level.WARNING, "Cannot " + action, ee.getCause());
+        } catch (InterruptedException | TimeoutException e) {
+            Minesweeper.logger.log(Level.WARNING, "Cannot " + action, e);
         }
     }
 
     /**
-     * Reveal {@code tile}
+     * Record every action of {@link #engine} to {@code ./out.journal}.<br>
+     * The journal is closed on the thread of {@link #queue} when the JVM exits. If
+     * it cannot be opened the game is played without one.
+     */
+    private void openJournal() {
+        try {
+            final Journal journal = new Journal(Paths.get("./out.journal"));
+            this.engine.setJournal(journal);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> this.onExit("close journal", engine -> {
+                engine.setJournal(null);
+                try {
+                    journal.close();
+                } catch (IOException ioe) {
+                    Minesweeper.logger.throwing("Board", "openJournal", ioe);
+                }
+            }), "Journal shutdown"));
+        } catch (IOException ioe) {
+            Minesweeper.logger.log(Level.WARNING, "Cannot open journal", ioe);
+        }
+    }
+
+    /**
+     * Reveal the rest of the opening in progress, one command per chunk of
+     * {@code chunk} cells doubling every time, so its cells reach the view as
+     * they are revealed while the copies made by {@link Change} stay linear in
+     * the size of the opening.
+     * 
+     * @param chunk is the number of cells to reveal by the next command.
+     * 
+     * @return completed once the opening is finished.
+     */
+    private CompletableFuture<Void> open(int chunk) {
+        return this.queue.call(engine -> engine.open(chunk)).thenCompose(opening -> opening
+                ? this.open(Math.max(chunk, chunk << 1))
+                : CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Follow a reveal once its whole opening is visible, finding the next hint
+     * and announcing a win.
      * 
-     * @param tile is the {@link Tile} to reveal
+     * @param game    is the value of {@link #game} when revealed.
+     * @param changed is {@code true} if the reveal changed the board.
      */
-    public void reveal(Tile tile) {
-        if (tile.isFlagged())
+    private void opened(int game, boolean changed) {
+        if (!changed || game != this.game || this.replay != null)
             return;
-        if (tile.isRevealed())
+        this.updateHint();
+        this.checkGameOver();
+    }
+
+    /**
+     * Show the safest cell found by {@link Probability#safest()}.<br>
+     * The result is dropped if another move was made since it was requested.
+     * 
+     * @param request is the value of {@link #hintRequest} when requested.
+     * @param start   is {@link System#nanoTime()} when requested.
+     * @param cell    is the result of {@link Probability#safest()}, or
+     *                {@code -1} if the game is over.
+     * @param t       is what {@link Probability#safest()} threw, or
+     *                {@code null}.
+     */
+    private void pickHint(int request, long start, Integer cell, Throwable t) {
+        if (request != this.hintRequest)
             return;
-        if (this.isGameOver)
+        if (t != null) {
+            Minesweeper.logger.log(Level.FINE, "No hint", t);
+            this.showHint(-1);
             return;
+        }
 
-        Minesweeper.logger.info("Reaveal tile:\t" + tile.toString());
+        Minesweeper.logger.fine(() -> "Hint:\t" + cell + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        this.showHint(cell);
+    }
 
-        if (this.firstClick) {
-            Minesweeper.logger.info("Guaranteeing that first click is not a bomb");
-            this.firstClick = false;
+    /**
+     * Creates a new game.
+     */
+    public void reset() {
+        Minesweeper.logger.info("Reset board");
+
+        this.stopReplay();
+        ++this.game;
+        this.clock.reset(0);
+
+        this.queue.submit(engine -> {
+            if (this.pregenerator == null)
+                engine.reset();
+            else if (!this.pregenerator.reset(engine))
+                Minesweeper.logger.fine("No prepared game, generated inline");
+        });
+        this.updateHint();
+    }
 
-            if (tile.isBomb()) {
-                tile.setBomb(false);
-                int x = rand.nextInt(this.colMax), y = rand.nextInt(this.rowMax);
-                while ((tile.row == x && tile.col == y) || this.board[x][y].isBomb()) {
-                    x = rand.nextInt(this.colMax);
-                    y = rand.nextInt(this.rowMax);
+    /**
+     * Continue the game saved in {@code snapshot}.<br>
+     * The clock resumes from the saved time on the next reveal. Waits for the
+     * {@link #queue} to restore it.
+     *
+     * @param snapshot is a {@link Snapshot} of a game the size of this.
+     *
+     * @throws IOException              if the snapshot is truncated.
+     * @throws IllegalArgumentException if {@code snapshot} is not the size of
+     *                                  this.
+     */
+    public void restore(Snapshot snapshot) throws IOException, IllegalArgumentException {
+        Minesweeper.logger.info("Restore board");
+
+        this.stopReplay();
+        ++this.game;
+        try {
+            this.await(engine -> {
+                try {
+                    snapshot.restore(engine);
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
                 }
+                return null;
+            });
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+        this.clock.reset(snapshot.elapsed);
+
+        Panel.menu.setIcon(Panel.menuDefault);
+        this.updateHint();
+    }
 
-                Minesweeper.logger.info("Placing the bomb at " + this.board[x][y].toString());
-                this.board[x][y].setBomb(true);
+    /**
+     * Show {@code game} on this at the pace it was played.<br>
+     * A {@link Timer} on the event dispatch thread queues the moves as they fall
+     * due, and input is ignored until the replay ends or the board is reset.
+     *
+     * @param game is the {@link Replay} to show.
+     *
+     * @throws IllegalArgumentException if {@code game} is not the size of this.
+     */
+    public void replay(Replay game) throws IllegalArgumentException {
+        Minesweeper.logger.info(() -> "Replay:\t" + game.size() + " moves, seed " + game.seed);
+
+        this.stopReplay();
+        ++this.game;
+        this.clock.reset(0);
+        this.await(engine -> {
+            game.start(engine);
+            return null;
+        });
+        Panel.menu.setIcon(Panel.menuDefault);
+        this.panel.updateTLabel(0);
+
+        final long start = System.nanoTime();
+        final Timer replay = new Timer(15, null);
+        replay.addActionListener(new ActionListener() {
+            /**
+             * The next move to apply.
+             */
+            private int move;
+
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                final long now = System.nanoTime() - start;
+                final int from = this.move;
+                while (this.move < game.size() && game.time(this.move) <= now)
+                    ++this.move;
+
+                final int to = this.move;
+                final CompletableFuture<Void> applied = Board.this.queue.submit(engine -> {
+                    for (int move = from; move < to; ++move)
+                        game.apply(engine, move);
+                });
+                Board.this.panel.updateTLabel((int) (now / 1_000_000_000L));
+                if (to < game.size())
+                    return;
+
+                // Show the end of the game once its last moves are visible.
+                replay.stop();
+                applied.thenRunAsync(() -> {
+                    if (Board.this.replay == replay)
+                        Board.this.stopReplay();
+                }, SwingUtilities::invokeLater);
             }
-        }
+        });
+        this.replay = replay;
+        this.updateHint();
+        replay.start();
+    }
 
-        if (tile.isBomb()) {
-            JOptionPane.showMessageDialog(null, "Game Over", "Game Over!", JOptionPane.PLAIN_MESSAGE, Minesweeper.icon);
-            tile.setBackground(Color.RED);
-            this.revealBomb();
-            if (this.timer.isRunning)
-                this.setTimer();
-            return;
+    /**
+     * Show the most recent game recorded in {@code ./out.journal} that has a move
+     * and the size of this.
+     */
+    public void replayLast() {
+        try {
+            // Read on the thread writing the journal, so every record is complete.
+            final List<Replay> games = this.await(engine -> {
+                try {
+                    return Replay.read(Paths.get("./out.journal"));
+                } catch (IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            });
+            for (int i = games.size() - 1; i >= 0; --i) {
+                final Replay game = games.get(i);
+                if (game.size() > 0 && game.rowMax == this.rowMax && game.colMax == this.colMax
+                        && game.numBombs == this.numBombs) {
+                    this.replay(game);
+                    return;
+                }
+            }
+            JOptionPane.showMessageDialog(null, "Nothing to replay", "Replay", JOptionPane.PLAIN_MESSAGE,
+                    Minesweeper.icon);
+        } catch (UncheckedIOException uioe) {
+            Minesweeper.logger.log(Level.WARNING, "Cannot read journal", uioe.getCause());
+            JOptionPane.showMessageDialog(null, "Cannot read journal", "Replay", JOptionPane.ERROR_MESSAGE,
+                    Minesweeper.icon);
         }
+    }
 
-        if (!this.timer.isRunning)
-            this.setTimer();
+    /**
+     * Reveal the cell at ({@code row}, {@code col}).<br>
+     * The first {@link #CHUNK} cells of its opening are shown at once and the
+     * rest are streamed by {@link #open(int)}.
+     * 
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     */
+    public void reveal(int row, int col) {
+        Minesweeper.logger.info(() -> "Reveal tile:\t(" + row + ", " + col + ")");
 
-        tile.setRevealed(true);
-        tile.setBorder(BorderFactory.createLoweredBevelBorder());
-        this.updateTileReveal();
+        if (this.replay != null)
+            return;
+        final boolean noGuess = this.noGuess;
+        final int game = this.game;
+        final CompletableFuture<Boolean> first = this.queue.call(engine -> {
+            if (noGuess && engine.getNumReveal() == 0 && !engine.getGameOver() && !engine.isFlagged(row, col))
+                generateNoGuess(engine, row, col);
+            return engine.reveal(row, col, CHUNK);
+        });
+        first.thenAcceptAsync(changed -> this.revealed(game, changed), SwingUtilities::invokeLater);
+        first.thenCompose(changed -> this.open(CHUNK << 1).thenApply(done -> changed))
+                .thenAcceptAsync(changed -> this.opened(game, changed), SwingUtilities::invokeLater);
+    }
 
-        if (this.count(tile) != 0)
-            tile.setIcon(Tile.numbers[tile.getCount()]);
-        else
-            this.specialReveal(tile);
+    /**
+     * Follow a reveal once its first chunk is visible, starting or stopping the
+     * clock at the times the engine thread took and announcing a loss.
+     * 
+     * @param game    is the value of {@link #game} when revealed.
+     * @param changed is {@code true} if the reveal changed the board.
+     */
+    private void revealed(int game, boolean changed) {
+        if (!changed || game != this.game || this.replay != null)
+            return;
 
-        this.checkGameOver();
+        if (this.isGameOver && !this.isWon) {
+            this.revealBomb();
+            this.clock.stop(this.endTime);
+            JOptionPane.showMessageDialog(null, "Game Over", "Game Over!", JOptionPane.PLAIN_MESSAGE, Minesweeper.icon);
+            return;
+        }
+
+        if (!this.isGameOver)
+            this.clock.start(this.startTime);
     }
 
     /**
-     * Reveals the locations of all bombs on {@link #board}
+     * Reveals the locations of all bombs.<br>
+     * {@link BoardView} paints the bombs itself once the game is lost.
      */
     private void revealBomb() {
         Minesweeper.logger.info("Revealing Bombs");
 
-        this.isGameOver = true;
         Panel.menu.setIcon(Panel.menuGameOver);
+    }
 
-        for (Tile[] row : this.board) {
-            for (Tile tile : row) {
-                if (tile.isBomb())
-                    tile.setIcon(Tile.bomb);
-
-                if (tile.isFlagged() && !tile.isBomb())
-                    tile.setIcon(Tile.incorrectFlag);
+    /**
+     * Save the game in progress to {@link #SAVE}, or delete {@link #SAVE} if there
+     * is none.<br>
+     * Runs when the JVM exits, after every queued action.
+     */
+    private void save() {
+        final boolean isReplay = this.replay != null;
+        this.onExit("save game", engine -> {
+            try {
+                if (isReplay || engine.getGameOver() || engine.getNumReveal() == 0)
+                    Files.deleteIfExists(SAVE);
+                else
+                    Snapshot.write(engine, this.clock.elapsed(), SAVE);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
             }
-        }
+        });
+    }
+
+    /**
+     * Keep the visible state of the cells from ({@code rowMin}, {@code colMin})
+     * to ({@code rowMax}, {@code colMax}) inclusive.<br>
+     * Unless they are already kept, the window moves to hold them with a margin
+     * of half their size on every side, keeping the cells it already holds, and
+     * {@link #queue} is asked for the rest.
+     * 
+     * @param rowMin is the first visible row.
+     * @param colMin is the first visible column.
+     * @param rowMax is the last visible row.
+     * @param colMax is the last visible column.
+     */
+    public void setViewport(int rowMin, int colMin, int rowMax, int colMax) {
+        if (rowMin >= this.windowRow && colMin >= this.windowCol && rowMax < this.windowRow + this.windowRows
+                && colMax < this.windowCol + this.windowCols)
+            return;
 
-        return;
+        final int rowPad = (rowMax - rowMin + 2) / 2, colPad = (colMax - colMin + 2) / 2;
+        final int top = Math.max(rowMin - rowPad, 0), left = Math.max(colMin - colPad, 0);
+        final int rows = Math.min(rowMax + rowPad, this.rowMax - 1) - top + 1;
+        final int cols = Math.min(colMax + colPad, this.colMax - 1) - left + 1;
+
+        final byte[] window = new byte[rows * cols];
+        Arrays.fill(window, UNKNOWN);
+        final int from = Math.max(left, this.windowCol), to = Math.min(left + cols, this.windowCol + this.windowCols);
+        for (int row = Math.max(top, this.windowRow); from < to
+                && row < Math.min(top + rows, this.windowRow + this.windowRows); ++row)
+            System.arraycopy(this.window, (row - this.windowRow) * this.windowCols + from - this.windowCol, window,
+                    (row - top) * cols + from - left, to - from);
+
+        this.window = window;
+        this.windowRow = top;
+        this.windowCol = left;
+        this.windowRows = rows;
+        this.windowCols = cols;
+        this.queue.setViewport(top, left, top + rows - 1, left + cols - 1);
     }
 
     /**
-     * Set {@link #isGameOver} to {@code isGameOver}.
+     * Set whether the safest cell is shown after every move.
      * 
-     * @param isGameOver is the new value.
+     * @param hints is {@code true} to show the safest cell.
      */
-    public void setGameOver(boolean isGameOver) {
-        this.isGameOver = isGameOver;
+    public void setHints(boolean hints) {
+        Minesweeper.logger.info(() -> "Hints:\t" + hints);
+        this.hints = hints;
+        this.updateHint();
     }
 
     /**
-     * Create {@link #timer}
+     * Set whether games are generated to be won without guessing.<br>
+     * The game is generated at its first click, since the layout depends on it.
+     * 
+     * @param noGuess is {@code true} to generate no-guess games.
      */
-    private void setTimer() {
-        if (this.timer.isRunning) {
-            this.timer.isRunning = false;
-            this.timer.cancel();
-        } else {
-            this.timer = new MTimer();
-            TimerTask task = new TimerTask() {
-                @Override
-                public void run() {
-                    Board.this.panel.updateTLabel(++Board.this.timer.time);
-                }
-            };
-            this.timer.isRunning = true;
-            this.timer.schedule(task, 0L, 0x3E8L);
-        }
+    public void setNoGuess(boolean noGuess) {
+        Minesweeper.logger.info(() -> "No-guess:\t" + noGuess);
+        this.noGuess = noGuess;
     }
 
     /**
-     * Reveal all {@link Tile} directly surrounding {@code tile}.
+     * Show the cell least likely to hold a bomb as {@code cell}, repainting both
+     * the old and the new cell.
      * 
-     * @param tile is the center tile.
+     * @param cell is {@code row * colMax + col} of the cell, or {@code -1}.
      */
-    private void specialReveal(Tile tile) {
-        Minesweeper.logger.info("Special Reveal tile:\t" + tile.toString());
+    private void showHint(int cell) {
+        final int old = this.hint;
+        this.hint = cell;
+        if (old == cell)
+            return;
+        if (old >= 0)
+            this.panel.view.repaintRegion(old / this.colMax, old % this.colMax, old / this.colMax, old % this.colMax);
+        if (cell >= 0)
+            this.panel.view.repaintRegion(cell / this.colMax, cell % this.colMax, cell / this.colMax,
+                    cell % this.colMax);
+    }
 
-        for (int i = tile.row - 1; i < tile.row + 2; ++i) {
-            for (int j = tile.col - 1; j < tile.col + 2; ++j) {
-                try {
-                    if (!(tile.row == i && tile.col == j))
-                        this.reveal(this.board[i][j]);
-                } catch (ArrayIndexOutOfBoundsException aioobe) {
-                    continue;
-                }
-            }
-        }
+    /**
+     * Determine the visible state of a cell.
+     * 
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     * 
+     * @return the state in the format of {@link Change}, or {@link #UNKNOWN}.
+     */
+    private int state(int row, int col) {
+        row -= this.windowRow;
+        col -= this.windowCol;
+        if (row < 0 || col < 0 || row >= this.windowRows || col >= this.windowCols)
+            return UNKNOWN;
+        return this.window[row * this.windowCols + col];
     }
 
-    @Override
-    public String toString() {
-        String str = "";
-        for (Tile[] row : this.board) {
-            for (Tile tile : row)
-                str += tile.getCount() + "\t";
-            str += "\n";
-        }
-        return str;
+    /**
+     * Stop the {@link Replay} being shown, if any, and show the end of its game.
+     */
+    private void stopReplay() {
+        if (this.replay == null)
+            return;
+
+        this.replay.stop();
+        this.replay = null;
+        if (this.isGameOver && !this.isWon)
+            Panel.menu.setIcon(Panel.menuGameOver);
     }
 
     /**
-     * Increment the number of {@link Tile} that have been <i>revealed</i>.
+     * Find the cell least likely to hold a bomb, if hints are shown.<br>
+     * The visible state is captured by {@link #queue} after every queued action
+     * and the {@link Probability} computed in the background, so a wide frontier
+     * never blocks input.
      */
-    public void updateTileReveal() {
-        ++this.numReveal;
+    private void updateHint() {
+        final int request = ++this.hintRequest;
+        if (!this.hints || this.replay != null) {
+            this.showHint(-1);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        this.queue.call(engine -> engine.getGameOver() ? null : new Probability(engine))
+                .thenApplyAsync(probability -> probability == null ? -1 : probability.safest())
+                .whenComplete((cell, t) -> SwingUtilities.invokeLater(() -> this.pickHint(request, start, cell, t)));
+    }
+
+    @Override
+    public String toString() {
+        return this.await(Engine::toString);
     }
-}
\ No newline at end of file
+}
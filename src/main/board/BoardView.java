@@ -0,0 +1,262 @@
+package main.board;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+
+import javax.swing.BorderFactory;
+import javax.swing.JComponent;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import javax.swing.border.Border;
+
+import main.engine.Change;
+
+/**
+ * This {@code BoardView} class paints {@link Board} as a single component.<br>
+ * Only the cells inside the clip are painted, from the visible state
+ * {@link Board} keeps of every {@link Change}, so the cost of a frame depends
+ * on the size of the viewport and not on the size of the board. Images are
+ * blitted from {@link Sprites} at the current {@link #getCellSize() zoom} and
+ * device scale.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public class BoardView extends JComponent implements Scrollable {
+    /**
+     * serialVersionUID
+     */
+    private static final long serialVersionUID = 0x448000763278F6FAL;
+
+    /**
+     * The default width and height of a cell in pixels.
+     */
+    public static final int CELL = 40;
+
+    /**
+     * The smallest width and height of a cell in pixels.
+     */
+    public static final int CELL_MIN = 10;
+
+    /**
+     * The largest width and height of a cell in pixels.
+     */
+    public static final int CELL_MAX = 160;
+
+    /**
+     * A reference holding a {@link Color} that every cell will be.
+     */
+    private static final Color color = new Color(0xbdbdbd);
+
+    /**
+     * {@link Border} of a cell that has not been revealed.
+     */
+    private static final Border raised = BorderFactory.createRaisedBevelBorder();
+
+    /**
+     * {@link Border} of a cell that has been revealed.
+     */
+    private static final Border lowered = BorderFactory.createLoweredBevelBorder();
+
+    /**
+     * The {@link Board} being painted.
+     */
+    public final Board board;
+
+    /**
+     * The width and height of a cell in pixels.
+     */
+    private int cell = CELL;
+
+    /**
+     * {@code row * colMax + col} of the cell held down by the mouse, or
+     * {@code -1}.
+     */
+    private int pressed = -1;
+
+    /**
+     * Create a {@code BoardView} of {@code board}.
+     *
+     * @param board is the {@link Board} to paint.
+     */
+    public BoardView(Board board) {
+        this.board = board;
+
+        this.setOpaque(true);
+        this.setFocusable(true);
+        this.setPreferredSize(new Dimension(board.colMax * this.cell, board.rowMax * this.cell));
+    }
+
+    /**
+     * Determine the column under the x coordinate {@code x}.
+     *
+     * @param x is the x coordinate in this.
+     *
+     * @return the column, or {@code -1} if {@code x} is not on the board.
+     */
+    public int colAt(int x) {
+        final int col = Math.floorDiv(x, this.cell);
+        return col < this.board.colMax ? col : -1;
+    }
+
+    /**
+     * Determine the width and height of a cell.
+     *
+     * @return the size of a cell in pixels.
+     */
+    public int getCellSize() {
+        return this.cell;
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        final Dimension size = this.getPreferredSize();
+        return new Dimension(Math.min(size.width, 30 * this.cell), Math.min(size.height, 16 * this.cell));
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.HORIZONTAL ? visibleRect.width - this.cell
+                : visibleRect.height - this.cell;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return this.cell;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        final Graphics2D g2 = (Graphics2D) g;
+        final Board board = this.board;
+        final int cell = this.cell, icon = cell * 4 / 5, inset = (cell - icon) / 2;
+        final Rectangle clip = g.getClipBounds() != null ? g.getClipBounds()
+                : new Rectangle(0, 0, this.getWidth(), this.getHeight());
+
+        final int rowMin = Math.max(clip.y / cell, 0);
+        final int rowMax = Math.min((clip.y + clip.height - 1) / cell, board.rowMax - 1);
+        final int colMin = Math.max(clip.x / cell, 0);
+        final int colMax = Math.min((clip.x + clip.width - 1) / cell, board.colMax - 1);
+        final Rectangle visible = this.getVisibleRect();
+        board.setViewport(Math.max(visible.y / cell, 0), Math.max(visible.x / cell, 0),
+                Math.min((visible.y + visible.height - 1) / cell, board.rowMax - 1),
+                Math.min((visible.x + visible.width - 1) / cell, board.colMax - 1));
+
+        final boolean isLost = board.getGameOver() && !board.isWon();
+        final int exploded = board.getExploded(), hint = board.getHint(), pressed = this.pressed;
+
+        for (int row = rowMin; row <= rowMax; ++row) {
+            for (int col = colMin; col <= colMax; ++col) {
+                final int x = col * cell, y = row * cell;
+
+                g.setColor(isLost && row * board.colMax + col == exploded ? Color.RED : color);
+                g.fillRect(x, y, cell, cell);
+                // Painted again once the engine thread sends it.
+                if (!board.isKnown(row, col))
+                    continue;
+
+                int sprite = 0;
+                // A hidden count reads as 0, so a pressed cell is drawn empty.
+                if (board.isRevealed(row, col) || row * board.colMax + col == pressed && !board.isFlagged(row, col)) {
+                    lowered.paintBorder(this, g, x, y, cell, cell);
+                    sprite = board.getCount(row, col);
+                } else {
+                    raised.paintBorder(this, g, x, y, cell, cell);
+                    final boolean isBomb = isLost && board.isBomb(row, col);
+                    if (board.isFlagged(row, col))
+                        sprite = isLost && !isBomb ? Sprites.INCORRECT_FLAG : Sprites.FLAG;
+                    if (isBomb)
+                        sprite = Sprites.BOMB;
+                }
+
+                if (sprite != 0)
+                    Sprites.draw(g2, sprite, x + inset, y + inset, icon);
+                if (row * board.colMax + col == hint) {
+                    g.setColor(Color.GREEN);
+                    g.drawRect(x + 2, y + 2, cell - 5, cell - 5);
+                    g.drawRect(x + 3, y + 3, cell - 7, cell - 7);
+                }
+            }
+        }
+    }
+
+    /**
+     * Repaint every cell from ({@code rowMin}, {@code colMin}) to
+     * ({@code rowMax}, {@code colMax}) inclusive with a single request.
+     *
+     * @param rowMin is the first row.
+     * @param colMin is the first column.
+     * @param rowMax is the last row.
+     * @param colMax is the last column.
+     */
+    public void repaintRegion(int rowMin, int colMin, int rowMax, int colMax) {
+        this.repaint(colMin * this.cell, rowMin * this.cell, (colMax - colMin + 1) * this.cell,
+                (rowMax - rowMin + 1) * this.cell);
+    }
+
+    /**
+     * Show {@code cell} as held down by the mouse, repainting both the old and
+     * the new cell.
+     *
+     * @param cell is {@code row * colMax + col} of the cell, or {@code -1}.
+     */
+    public void setPressed(int cell) {
+        final int old = this.pressed, cols = this.board.colMax;
+        this.pressed = cell;
+        if (old == cell)
+            return;
+        if (old >= 0)
+            this.repaintRegion(old / cols, old % cols, old / cols, old % cols);
+        if (cell >= 0)
+            this.repaintRegion(cell / cols, cell % cols, cell / cols, cell % cols);
+    }
+
+    /**
+     * Determine the row under the y coordinate {@code y}.
+     *
+     * @param y is the y coordinate in this.
+     *
+     * @return the row, or {@code -1} if {@code y} is not on the board.
+     */
+    public int rowAt(int y) {
+        final int row = Math.floorDiv(y, this.cell);
+        return row < this.board.rowMax ? row : -1;
+    }
+
+    /**
+     * Zoom to {@code cell} pixels per cell, keeping the cell at the center of the
+     * viewport in place.
+     *
+     * @param cell is the new size of a cell, clamped to [{@link #CELL_MIN},
+     *             {@link #CELL_MAX}].
+     */
+    public void setCellSize(int cell) {
+        cell = Math.max(CELL_MIN, Math.min(CELL_MAX, cell));
+        if (cell == this.cell)
+            return;
+
+        final Rectangle visible = this.getVisibleRect();
+        final double row = (visible.y + visible.height / 2.0) / this.cell;
+        final double col = (visible.x + visible.width / 2.0) / this.cell;
+
+        this.cell = cell;
+        this.setPreferredSize(new Dimension(this.board.colMax * cell, this.board.rowMax * cell));
+        this.revalidate();
+        this.scrollRectToVisible(new Rectangle((int) (col * cell) - visible.width / 2,
+                (int) (row * cell) - visible.height / 2, visible.width, visible.height));
+        this.repaint();
+    }
+}
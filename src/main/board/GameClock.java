@@ -0,0 +1,158 @@
+package main.board;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.LongConsumer;
+
+import javax.swing.Timer;
+
+/**
+ * Time spent on a game.<br>
+ * The elapsed time is the sum of the {@link System#nanoTime()} intervals
+ * between every {@link #start(long)} and {@link #stop(long)}, so it cannot
+ * drift with the display and is exact to the nanosecond. Both take the time of
+ * the event from the caller, so a game is timed from when the engine handled
+ * the move rather than from when the event dispatch thread heard of it. Every
+ * running clock is refreshed on the event dispatch thread by one shared Swing
+ * {@link Timer}, so no thread is created per game.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class GameClock {
+    /**
+     * The milliseconds between two refreshes of the display.
+     */
+    public static final int TICK = 100;
+
+    /**
+     * Every running {@code GameClock}.
+     */
+    private static final Set<GameClock> running = new CopyOnWriteArraySet<>();
+
+    /**
+     * {@link Timer} refreshing every running {@code GameClock}.
+     */
+    private static final Timer ticker = new Timer(TICK, e -> running.forEach(GameClock::tick));
+
+    /**
+     * Receives the elapsed whole seconds whenever they change, on the event
+     * dispatch thread.
+     */
+    private final LongConsumer display;
+
+    /**
+     * The nanoseconds elapsed before the last {@link #start(long)}.
+     */
+    private long elapsed;
+
+    /**
+     * {@link System#nanoTime()} at the last {@link #start(long)}.
+     */
+    private long start;
+
+    /**
+     * Whether this is running.
+     */
+    private boolean isRunning;
+
+    /**
+     * The whole seconds last passed to {@link #display}.
+     */
+    private long shown = -1;
+
+    /**
+     * Create a stopped {@code GameClock} at zero.
+     *
+     * @param display receives the elapsed whole seconds whenever they change.
+     */
+    public GameClock(LongConsumer display) {
+        this.display = display;
+    }
+
+    /**
+     * Determine the time spent on the game.
+     *
+     * @return the elapsed nanoseconds.
+     */
+    public synchronized long elapsed() {
+        return this.isRunning ? this.elapsed + System.nanoTime() - this.start : this.elapsed;
+    }
+
+    /**
+     * Determine the time spent on the game, as kept on leaderboards.
+     *
+     * @return the elapsed milliseconds.
+     */
+    public long elapsedMillis() {
+        return this.elapsed() / 1_000_000L;
+    }
+
+    /**
+     * Determine if this is running.
+     *
+     * @return {@link #isRunning}
+     */
+    public synchronized boolean isRunning() {
+        return this.isRunning;
+    }
+
+    /**
+     * Stop this and set the elapsed time, for a new or restored game.
+     *
+     * @param elapsed is the nanoseconds already spent on the game.
+     */
+    public void reset(long elapsed) {
+        synchronized (this) {
+            this.isRunning = false;
+            this.elapsed = elapsed;
+        }
+        running.remove(this);
+        this.tick();
+    }
+
+    /**
+     * Start counting from the current elapsed time, unless already running.
+     *
+     * @param now is {@link System#nanoTime()} when the game started.
+     */
+    public void start(long now) {
+        synchronized (this) {
+            if (this.isRunning)
+                return;
+            this.start = now;
+            this.isRunning = true;
+        }
+        running.add(this);
+        ticker.start();
+    }
+
+    /**
+     * Stop counting, keeping the elapsed time, unless already stopped.
+     *
+     * @param now is {@link System#nanoTime()} when the game stopped.
+     */
+    public void stop(long now) {
+        synchronized (this) {
+            if (!this.isRunning)
+                return;
+            this.elapsed += now - this.start;
+            this.isRunning = false;
+        }
+        running.remove(this);
+        if (running.isEmpty())
+            ticker.stop();
+        this.tick();
+    }
+
+    /**
+     * Pass the elapsed whole seconds to {@link #display} if they changed.
+     */
+    private void tick() {
+        final long seconds = this.elapsed() / 1_000_000_000L;
+        if (seconds == this.shown)
+            return;
+        this.shown = seconds;
+        this.display.accept(seconds);
+    }
+}
@@ -1,27 +1,21 @@
 package main.board;
 
+import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GridLayout;
-import java.awt.Image;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.net.URL;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
 
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.UIManager;
 
-import javafx.scene.control.MenuButton;
 import main.Minesweeper;
 import main.listener.Key;
 import main.listener.Mouse;
@@ -45,7 +39,7 @@ public class Panel extends JPanel implements ActionListener {
     public static final Font standardFont = new Font("Arial", Font.PLAIN, 30);
 
     /**
-     * {@link MenuButton}
+     * {@link JButton} showing the menu
      */
     public static final JButton menu;
 
@@ -77,56 +71,31 @@ public class Panel extends JPanel implements ActionListener {
     public final JLabel flagLabel = new JLabel("", JLabel.CENTER);
 
     /**
-     * A {@link JLabel} used to indicate {@link Board#timer}
+     * A {@link JLabel} used to indicate the seconds of {@link GameClock}
      */
     public final JLabel timeLabel = new JLabel("0", JLabel.CENTER);
 
     /**
      * Primitive type array of {@link String} of options
      */
-    private static final String[] options = { "Reset", "Quit", "Controls" };
+    private static final String[] options = { "Reset", "Quit", "Controls", "Replay" };
 
     /**
      * The actual {@link Board}
      */
     public final Board board;
 
+    /**
+     * The {@link BoardView} painting {@link #board}
+     */
+    public final BoardView view;
+
     static {
-        String filename;
-        File file;
-        URL url;
-        ReadableByteChannel rbc;
-        FileOutputStream fout;
-
-        for (String png : new String[] {"Default", "Click", "GameOver"}) {
-            filename = String.format("./src/resources/menu%s.png", png);
-            file = new File(filename);
-
-            if (!file.exists()) {
-                Minesweeper.logger.info(file.getName() + " created");
-                try {
-                    file.createNewFile();
-                    url = new URL(String.format("https://raw.githubusercontent.com/MrPineapple065/Minesweeper/master/src/resources/menu%s.png", png));
-                    rbc = Channels.newChannel(url.openStream());
-                    fout = new FileOutputStream(file);
-                    fout.getChannel().transferFrom(rbc, 0, Long.MAX_VALUE);
-                    fout.close();
-                } catch (IOException ioe) {
-                    Minesweeper.logger.throwing("Panel", "static", ioe);
-                }
-            } else {
-                Minesweeper.logger.info(file.getName() + " exists");
-            }
-        }
+        UIManager.put("TextArea.font", standardFont);
 
-        menuDefault = new ImageIcon(
-                new ImageIcon("./src/resources/menuDefault.png").getImage().getScaledInstance(32, 32,
-                        Image.SCALE_SMOOTH));
-        menuClick = new ImageIcon(
-                new ImageIcon("./src/resources/menuClick.png").getImage().getScaledInstance(32, 32,
-                        Image.SCALE_SMOOTH));
-        menuGameOver = new ImageIcon(new ImageIcon("./src/resources/menuGameOver.png").getImage().getScaledInstance(32,
-                32, Image.SCALE_SMOOTH));
+        menuDefault = Sprites.icon(Sprites.MENU_DEFAULT, 32);
+        menuClick = Sprites.icon(Sprites.MENU_CLICK, 32);
+        menuGameOver = Sprites.icon(Sprites.MENU_GAME_OVER, 32);
 
         menu = new JButton(menuDefault);
         menu.setOpaque(false);
@@ -159,13 +128,14 @@ public class Panel extends JPanel implements ActionListener {
             throw ioobe;
         }
 
-        this.setLayout(new GridLayout(row + 1, col));
+        this.setLayout(new BorderLayout());
         this.setGUIElements();
         this.keys = new Key(this);
+        this.view = new BoardView(this.board);
 
         // Create other GUI Elements
         this.createLabels();
-        this.createTiles();
+        this.createView();
 
         menu.addActionListener(this);
         menu.addKeyListener(this.keys);
@@ -173,7 +143,7 @@ public class Panel extends JPanel implements ActionListener {
 
     @Override
     public void actionPerformed(final ActionEvent e) {
-        Minesweeper.logger.info(e.getActionCommand());
+        Minesweeper.logger.info(e::getActionCommand);
         this.displayMenu();
     }
 
@@ -185,32 +155,25 @@ public class Panel extends JPanel implements ActionListener {
 
         this.updateBLabel();
 
-        for (int i = 0; i < this.board.colMax; i++) {
-            if (i == this.board.colMax / 4)
-                this.add(this.flagLabel);
-            else if (i == this.board.colMax / 2)
-                this.add(Panel.menu);
-            else if (i == 3 * this.board.colMax / 4)
-                this.add(this.timeLabel);
-            else
-                this.add(new JLabel("", JLabel.CENTER));
-        }
+        JPanel header = new JPanel(new GridLayout(1, 3));
+        header.add(this.flagLabel);
+        header.add(Panel.menu);
+        header.add(this.timeLabel);
+        this.add(header, BorderLayout.NORTH);
     }
 
     /**
-     * Initialize all {@link Tile} in {@link board}
+     * Add {@link #view} to the {@link Panel} inside a {@link JScrollPane}
      */
-    private void createTiles() {
-        Minesweeper.logger.info("Creaing tiles");
+    private void createView() {
+        Minesweeper.logger.info("Creaing view");
 
-        for (Tile[] row : this.board.getBoard()) {
-            for (Tile tile : row) {
-                tile.addKeyListener(this.keys);
-                tile.addMouseListener(new Mouse(this, this.board, tile));
+        final Mouse mouse = new Mouse(this, this.board);
+        this.view.addKeyListener(this.keys);
+        this.view.addMouseListener(mouse);
+        this.view.addMouseMotionListener(mouse);
 
-                this.add(tile);
-            }
-        }
+        this.add(new JScrollPane(this.view), BorderLayout.CENTER);
     }
 
     /**
@@ -244,11 +207,15 @@ public class Panel extends JPanel implements ActionListener {
                         return;
                 }
             case 2:
-                JTextArea jta = new JTextArea("Escape:\tPause\nr:\tReset\nq:\tQuit");
+                JTextArea jta = new JTextArea("Escape:\tPause\nr:\tReset\nq:\tQuit\n+/-:\tZoom\n"
+                        + "n:\tNo-guess\nh:\tHint");
                 jta.setOpaque(false);
                 jta.setFont(Panel.standardFont);
                 JOptionPane.showMessageDialog(this, jta, "Controls", JOptionPane.PLAIN_MESSAGE, Minesweeper.icon);
                 return;
+            case 3:
+                this.board.replayLast();
+                return;
             default:
                 return;
         }
@@ -291,7 +258,7 @@ public class Panel extends JPanel implements ActionListener {
      * 
      * @param time is the time to display
      * 
-     * @see Board#timer
+     * @see GameClock
      */
     public void updateTLabel(int time) {
         this.timeLabel.setText(String.valueOf(time));
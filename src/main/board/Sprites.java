@@ -0,0 +1,166 @@
+package main.board;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.swing.ImageIcon;
+
+import resources.Assets;
+
+/**
+ * Sprite atlas for every cell and menu image.<br>
+ * Each image from {@link Assets} is drawn once into a single row of
+ * {@link #SOURCE} pixel slots. Scaled copies of the atlas are built on first
+ * use for every pixel size and cached, so painting a cell is a blit of a sub
+ * rectangle at the device resolution.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Sprites {
+    /**
+     * The size in pixels of a slot of the source atlas.
+     */
+    public static final int SOURCE = 96;
+
+    /**
+     * Sprite of the bomb. Sprites {@code 1} to {@code 8} are the numbers.
+     */
+    public static final int BOMB = 9;
+
+    /**
+     * Sprite of the flag.
+     */
+    public static final int FLAG = 10;
+
+    /**
+     * Sprite of an incorrectly flagged cell.
+     */
+    public static final int INCORRECT_FLAG = 11;
+
+    /**
+     * Sprite of the menu button.
+     */
+    public static final int MENU_DEFAULT = 12;
+
+    /**
+     * Sprite of the menu button while {@code Mouse} is pressed.
+     */
+    public static final int MENU_CLICK = 13;
+
+    /**
+     * Sprite of the menu button when the game is over.
+     */
+    public static final int MENU_GAME_OVER = 14;
+
+    /**
+     * The name of the PNG of every sprite, slot {@code 0} is left empty.
+     */
+    private static final String[] names = { null, "one", "two", "three", "four", "five", "six", "seven", "eight",
+            "bomb", "flag", "incorrectFlag", "menuDefault", "menuClick", "menuGameOver" };
+
+    /**
+     * The decoded atlas at {@link #SOURCE} pixels per slot.
+     */
+    private static final BufferedImage source;
+
+    /**
+     * Scaled atlases by pixels per slot.
+     */
+    private static final Map<Integer, BufferedImage> scaled = new ConcurrentHashMap<>();
+
+    static {
+        source = new BufferedImage(SOURCE * names.length, SOURCE, BufferedImage.TYPE_INT_ARGB_PRE);
+        final Graphics2D g = source.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+
+        for (int i = 1; i < names.length; ++i)
+            g.drawImage(Assets.get(names[i]), i * SOURCE, 0, SOURCE, SOURCE, null);
+        g.dispose();
+        scaled.put(SOURCE, source);
+    }
+
+    /**
+     * Do not instantiate.
+     */
+    private Sprites() {
+    }
+
+    /**
+     * Determine the atlas scaled to {@code pixels} per slot, building it on first
+     * use.
+     *
+     * @param pixels is the size of a slot in device pixels.
+     *
+     * @return the scaled atlas.
+     */
+    private static BufferedImage atlas(int pixels) {
+        return scaled.computeIfAbsent(Math.max(pixels, 1), Sprites::scale);
+    }
+
+    /**
+     * Paint {@code sprite} into the square at ({@code x}, {@code y}) of
+     * {@code size} user space units.<br>
+     * The atlas matching the device scale of {@code g} is used, so the blit is one
+     * to one even on HiDPI screens.
+     *
+     * @param g      is the {@link Graphics2D} to paint with.
+     * @param sprite is the sprite to paint.
+     * @param x      is the left of the square.
+     * @param y      is the top of the square.
+     * @param size   is the width and height of the square.
+     */
+    public static void draw(Graphics2D g, int sprite, int x, int y, int size) {
+        final AffineTransform transform = g.getTransform();
+        final int pixels = (int) Math.round(size * Math.max(transform.getScaleX(), transform.getScaleY()));
+        final BufferedImage atlas = atlas(pixels);
+        final int px = sprite * pixels;
+
+        g.drawImage(atlas, x, y, x + size, y + size, px, 0, px + pixels, pixels, null);
+    }
+
+    /**
+     * Create an {@link ImageIcon} of {@code sprite}.
+     *
+     * @param sprite is the sprite.
+     * @param size   is the width and height of the icon.
+     *
+     * @return the {@link ImageIcon}.
+     */
+    public static ImageIcon icon(int sprite, int size) {
+        return new ImageIcon(atlas(size).getSubimage(sprite * size, 0, size, size));
+    }
+
+    /**
+     * Scale {@link #source} to {@code pixels} per slot.<br>
+     * Downscaling halves the image with bilinear filtering until the last step, so
+     * small sizes stay smooth.
+     *
+     * @param pixels is the size of a slot in pixels.
+     *
+     * @return the scaled atlas.
+     */
+    private static BufferedImage scale(int pixels) {
+        BufferedImage image = source;
+        int current = SOURCE;
+
+        do {
+            final int next = current / 2 >= pixels ? current / 2 : pixels;
+            final BufferedImage step = new BufferedImage(next * names.length, next, BufferedImage.TYPE_INT_ARGB_PRE);
+            final Graphics2D g = step.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, next * names.length, next, null);
+            g.dispose();
+
+            image = step;
+            current = next;
+        } while (current != pixels);
+
+        return image;
+    }
+}
@@ -0,0 +1,185 @@
+package main.engine;
+
+/**
+ * Immutable copy of the cells an {@link Engine} changed and of its counters
+ * afterwards, published by {@link CommandQueue} so the interface never reads
+ * the engine itself.<br>
+ * Only the changed cells inside the viewport of the {@link CommandQueue} are
+ * copied, so the region may be empty while the counters still change, and a
+ * change is never larger than the viewport whatever the size of the board.<br>
+ * Each cell of the region is one byte: the number of surrounding bombs in the
+ * low four bits, then {@link #REVEALED}, {@link #FLAGGED} and {@link #BOMB}.
+ * Bombs are only copied once the game is lost, so a view built from changes
+ * cannot show them early.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Change {
+    /**
+     * Mask of the number of surrounding bombs of a cell, valid once it is
+     * revealed.
+     */
+    public static final int COUNT = 0x0F;
+
+    /**
+     * Set if the cell is revealed.
+     */
+    public static final int REVEALED = 0x10;
+
+    /**
+     * Set if the cell is flagged.
+     */
+    public static final int FLAGGED = 0x20;
+
+    /**
+     * Set if the cell is a bomb and the game is lost.
+     */
+    public static final int BOMB = 0x40;
+
+    /**
+     * The first copied row.
+     */
+    public final int rowMin;
+
+    /**
+     * The first copied column.
+     */
+    public final int colMin;
+
+    /**
+     * The last copied row, less than {@link #rowMin} if no cell is copied.
+     */
+    public final int rowMax;
+
+    /**
+     * The last copied column, less than {@link #colMin} if no cell is copied.
+     */
+    public final int colMax;
+
+    /**
+     * The number of bombs left to flag.
+     */
+    public final int flags;
+
+    /**
+     * The number of cells revealed.
+     */
+    public final int numReveal;
+
+    /**
+     * {@code row * colMax + col} of the bomb that ended the game, or {@code -1}.
+     */
+    public final int exploded;
+
+    /**
+     * Whether the game is over.
+     */
+    public final boolean isGameOver;
+
+    /**
+     * Whether the game is won.
+     */
+    public final boolean isWon;
+
+    /**
+     * {@link System#nanoTime()} on the engine thread of the first reveal of the
+     * game, or since it was restored.
+     */
+    public final long startTime;
+
+    /**
+     * {@link System#nanoTime()} on the engine thread when the game ended.
+     */
+    public final long endTime;
+
+    /**
+     * The state of every cell of the region, row by row.
+     */
+    private final byte[] cells;
+
+    /**
+     * Copy the region from ({@code rowMin}, {@code colMin}) to ({@code rowMax},
+     * {@code colMax}) inclusive of {@code engine}, which is empty if
+     * {@code rowMax} is less than {@code rowMin} or {@code colMax} is less than
+     * {@code colMin}.
+     *
+     * @param engine is the {@link Engine} that changed.
+     * @param rowMin is the first row to copy.
+     * @param colMin is the first column to copy.
+     * @param rowMax is the last row to copy.
+     * @param colMax is the last column to copy.
+     */
+    Change(Engine engine, int rowMin, int colMin, int rowMax, int colMax) {
+        this.rowMin = rowMin;
+        this.colMin = colMin;
+        this.rowMax = rowMax;
+        this.colMax = colMax;
+        this.flags = engine.getFlags();
+        this.numReveal = engine.getNumReveal();
+        this.exploded = engine.getExploded();
+        this.isGameOver = engine.getGameOver();
+        this.isWon = engine.isWon();
+        this.startTime = engine.getStartTime();
+        this.endTime = engine.getEndTime();
+
+        final boolean isLost = this.isGameOver && !this.isWon;
+        final int width = engine.getWidth(), cols = Math.max(colMax - colMin + 1, 0);
+        this.cells = new byte[Math.max(rowMax - rowMin + 1, 0) * cols];
+        for (int row = rowMin, i = 0; row <= rowMax; ++row) {
+            for (int index = (row + 1) * width + colMin + 1, end = index + cols; index < end; ++index, ++i) {
+                int cell = 0;
+                if (engine.isRevealedAt(index))
+                    cell = REVEALED | engine.count(index);
+                if (engine.isFlaggedAt(index))
+                    cell |= FLAGGED;
+                if (isLost && engine.isBombAt(index))
+                    cell |= BOMB;
+                this.cells[i] = (byte) cell;
+            }
+        }
+    }
+
+    /**
+     * Copy the part of the region inside a window of the board into
+     * {@code window}, which holds a byte per cell of the window row by row.
+     *
+     * @param window is the state of every cell of the window.
+     * @param rowMin is the first row of the window.
+     * @param colMin is the first column of the window.
+     * @param rows   is the number of rows of the window.
+     * @param cols   is the number of columns of the window.
+     */
+    public void copyTo(byte[] window, int rowMin, int colMin, int rows, int cols) {
+        final int width = this.colMax - this.colMin + 1;
+        final int top = Math.max(this.rowMin, rowMin), bottom = Math.min(this.rowMax, rowMin + rows - 1);
+        final int left = Math.max(this.colMin, colMin), right = Math.min(this.colMax, colMin + cols - 1);
+        if (left > right)
+            return;
+
+        for (int row = top; row <= bottom; ++row)
+            System.arraycopy(this.cells, (row - this.rowMin) * width + left - this.colMin, window,
+                    (row - rowMin) * cols + left - colMin, right - left + 1);
+    }
+
+    /**
+     * Determine if no cell is copied.
+     *
+     * @return {@code true} if the region is empty.
+     */
+    public boolean isEmpty() {
+        return this.rowMax < this.rowMin || this.colMax < this.colMin;
+    }
+
+    /**
+     * Determine the state of a cell of the region.
+     *
+     * @param row is the row of the cell, in [{@link #rowMin}, {@link #rowMax}].
+     * @param col is the column of the cell, in [{@link #colMin}, {@link #colMax}].
+     *
+     * @return the state of ({@code row}, {@code col}).
+     */
+    public int get(int row, int col) {
+        return this.cells[(row - this.rowMin) * (this.colMax - this.colMin + 1) + col - this.colMin];
+    }
+}
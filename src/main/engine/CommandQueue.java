@@ -0,0 +1,297 @@
+package main.engine;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Single writer of an {@link Engine}.<br>
+ * Every command on the engine is queued and run in order by one daemon thread,
+ * which is the only thread to touch the engine once this is created. After the
+ * commands waiting in the queue have run, the part of the region they changed
+ * inside the viewport set by {@link #setViewport(int, int, int, int)} is copied
+ * into one {@link Change} and handed to the publisher, so readers keep their
+ * own copy of what they show and never race the engine. A command's result is
+ * completed after its {@link Change} is published.<br>
+ * Every result is completed: with what the command threw if it failed, even
+ * with an {@link Error}, and with a {@link CancellationException} if this is
+ * closed before the command runs. Waiting on a result therefore never hangs
+ * while the engine thread is alive.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class CommandQueue implements Closeable {
+    /**
+     * A queued command and its result.
+     *
+     * @param <T> is the type of the result.
+     */
+    private final class Command<T> {
+        /**
+         * The command to run.
+         */
+        private final Function<? super Engine, ? extends T> body;
+
+        /**
+         * The result of {@link #body}.
+         */
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        /**
+         * What {@link #body} returned.
+         */
+        private T value;
+
+        /**
+         * What {@link #body} threw, or {@code null}.
+         */
+        private Throwable thrown;
+
+        /**
+         * Create a {@code Command} running {@code body}.
+         *
+         * @param body is the command to run.
+         */
+        private Command(Function<? super Engine, ? extends T> body) {
+            this.body = body;
+        }
+
+        /**
+         * Complete {@link #result} with what {@link #run()} found.
+         */
+        private void complete() {
+            if (this.thrown != null)
+                this.result.completeExceptionally(this.thrown);
+            else
+                this.result.complete(this.value);
+        }
+
+        /**
+         * Run {@link #body} on {@link CommandQueue#engine}, keeping its result for
+         * {@link #complete()}.
+         */
+        private void run() {
+            try {
+                this.value = this.body.apply(CommandQueue.this.engine);
+            } catch (Throwable t) {
+                logger.log(t instanceof Error ? Level.SEVERE : Level.FINE, "Command failed", t);
+                this.thrown = t;
+            }
+        }
+    }
+
+    /**
+     * {@link Logger} shared with {@link main.Minesweeper#logger}.
+     */
+    private static final Logger logger = Logger.getLogger("Minesweeper");
+
+    /**
+     * The {@link Engine} owned by {@link #worker}.
+     */
+    private final Engine engine;
+
+    /**
+     * Receives every {@link Change}, on {@link #worker}.
+     */
+    private final Consumer<Change> publisher;
+
+    /**
+     * Commands waiting to run.
+     */
+    private final BlockingQueue<Command<?>> commands = new LinkedBlockingQueue<>();
+
+    /**
+     * Thread running {@link #commands}.
+     */
+    private final Thread worker;
+
+    /**
+     * The first row, first column, last row and last column of the viewport,
+     * only touched by {@link #worker}.
+     */
+    private int[] viewport = { 0, 0, -1, -1 };
+
+    /**
+     * Whether {@link #close()} was called.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The first row changed since the last {@link Change}.
+     */
+    private int rowMin = Integer.MAX_VALUE;
+
+    /**
+     * The first column changed since the last {@link Change}.
+     */
+    private int colMin = Integer.MAX_VALUE;
+
+    /**
+     * The last row changed since the last {@link Change}, or {@code -1}.
+     */
+    private int rowMax = -1;
+
+    /**
+     * The last column changed since the last {@link Change}, or {@code -1}.
+     */
+    private int colMax = -1;
+
+    /**
+     * Create a {@code CommandQueue} taking over {@code engine}.<br>
+     * The {@link Engine.Listener} of {@code engine} is replaced, and the caller
+     * must not touch {@code engine} again except through this.
+     *
+     * @param engine    is the {@link Engine} to own.
+     * @param publisher receives every {@link Change} on the engine thread.
+     */
+    public CommandQueue(Engine engine, Consumer<Change> publisher) {
+        this.engine = engine;
+        this.publisher = publisher;
+        engine.setListener(this::regionChanged);
+
+        this.worker = new Thread(this::run, "Engine");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queue {@code command} on the engine.
+     *
+     * @param <T>     is the type of the result.
+     * @param command is run with the {@link Engine} on the engine thread.
+     *
+     * @return the result of {@code command}, completed on the engine thread once
+     *         its {@link Change} is published, or exceptionally with what it
+     *         threw or with a {@link CancellationException} if this is closed
+     *         first.
+     */
+    public <T> CompletableFuture<T> call(Function<? super Engine, ? extends T> command) {
+        final Command<T> queued = new Command<>(command);
+        this.commands.add(queued);
+        if (this.closed)
+            this.cancel();
+        return queued.result;
+    }
+
+    /**
+     * Complete every queued command with a {@link CancellationException}.
+     */
+    private void cancel() {
+        for (Command<?> command; (command = this.commands.poll()) != null;)
+            command.result.completeExceptionally(new CancellationException("Command queue closed"));
+    }
+
+    /**
+     * Stop running commands. Commands still queued are cancelled.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.worker.interrupt();
+        this.cancel();
+    }
+
+    /**
+     * Copy the region changed since the last call into a {@link Change} for
+     * {@link #publisher}, if any.
+     */
+    private void publish() {
+        if (this.rowMax < 0)
+            return;
+        try {
+            final int[] viewport = this.viewport;
+            final Change change = new Change(this.engine, Math.max(this.rowMin, viewport[0]),
+                    Math.max(this.colMin, viewport[1]), Math.min(this.rowMax, viewport[2]),
+                    Math.min(this.colMax, viewport[3]));
+            this.publisher.accept(change);
+        } catch (Throwable t) {
+            logger.log(Level.SEVERE, "Change not published", t);
+        } finally {
+            this.rowMin = this.colMin = Integer.MAX_VALUE;
+            this.rowMax = this.colMax = -1;
+        }
+    }
+
+    /**
+     * Grow the changed region to hold the region from ({@code rowMin},
+     * {@code colMin}) to ({@code rowMax}, {@code colMax}).
+     *
+     * @param rowMin is the first changed row.
+     * @param colMin is the first changed column.
+     * @param rowMax is the last changed row.
+     * @param colMax is the last changed column.
+     */
+    private void regionChanged(int rowMin, int colMin, int rowMax, int colMax) {
+        this.rowMin = Math.min(this.rowMin, rowMin);
+        this.colMin = Math.min(this.colMin, colMin);
+        this.rowMax = Math.max(this.rowMax, rowMax);
+        this.colMax = Math.max(this.colMax, colMax);
+    }
+
+    /**
+     * Run every queued command until interrupted, publishing one {@link Change}
+     * per batch of commands found waiting. Commands left when it stops are
+     * cancelled.
+     */
+    private void run() {
+        final List<Command<?>> batch = new ArrayList<>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(this.commands.take());
+                this.commands.drainTo(batch);
+                batch.forEach(Command::run);
+
+                this.publish();
+                batch.forEach(Command::complete);
+                batch.clear();
+            }
+        } catch (InterruptedException ie) {
+            return;
+        } finally {
+            this.closed = true;
+            this.cancel();
+        }
+    }
+
+    /**
+     * Copy only the cells from ({@code rowMin}, {@code colMin}) to
+     * ({@code rowMax}, {@code colMax}) inclusive into every {@link Change} from
+     * now on. The next {@link Change} holds every cell of the new viewport.
+     *
+     * @param rowMin is the first row of the viewport.
+     * @param colMin is the first column of the viewport.
+     * @param rowMax is the last row of the viewport.
+     * @param colMax is the last column of the viewport.
+     */
+    public void setViewport(int rowMin, int colMin, int rowMax, int colMax) {
+        final int[] viewport = { rowMin, colMin, rowMax, colMax };
+        this.submit(engine -> {
+            this.viewport = viewport;
+            this.regionChanged(rowMin, colMin, rowMax, colMax);
+        });
+    }
+
+    /**
+     * Queue {@code command} on the engine.
+     *
+     * @param command is run with the {@link Engine} on the engine thread.
+     *
+     * @return completed on the engine thread once the {@link Change} of
+     *         {@code command} is published, or exceptionally with what it threw.
+     */
+    public CompletableFuture<Void> submit(Consumer<? super Engine> command) {
+        return this.call(engine -> {
+            command.accept(engine);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,1285 @@
+package main.engine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Headless Minesweeper game state.<br>
+ * The bomb, revealed and flagged states are bit planes packed into
+ * {@code long[]}, and the number of surrounding bombs is packed four bits to a
+ * cell, so a game can be played without constructing a single component and a
+ * 10000 x 10000 board needs about 100 MB.<br>
+ * The counts are computed once by {@link #reset()} and patched when the first
+ * click moves a bomb, so revealing a cell only reads them.<br>
+ * The cells are stored with a one cell guard ring around the board. Guard cells
+ * are never bombs and are always marked revealed, so neighbour loops walk
+ * {@link #offsets} without any bounds checks. Every plane is indexed the same
+ * way.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public class Engine {
+    /**
+     * Receives the region of the board changed by each action.
+     */
+    public interface Listener {
+        /**
+         * Called once per action with the smallest rectangle holding every cell it
+         * changed. All bounds are inclusive.
+         *
+         * @param rowMin is the first changed row.
+         * @param colMin is the first changed column.
+         * @param rowMax is the last changed row.
+         * @param colMax is the last changed column.
+         */
+        void regionChanged(int rowMin, int colMin, int rowMax, int colMax);
+    }
+
+    /**
+     * Master {@link SplittableRandom} every thread splits its {@link #seeds}
+     * from.
+     */
+    private static final SplittableRandom master = new SplittableRandom();
+
+    /**
+     * {@link SplittableRandom} of each thread drawing the seed of every game
+     * started by {@link #reset()}, so threads never contend on a shared seed.
+     */
+    private static final ThreadLocal<SplittableRandom> seeds = ThreadLocal.withInitial(Engine::split);
+
+    /**
+     * {@link Logger} shared with {@link main.Minesweeper#logger}.
+     */
+    private static final Logger logger = Logger.getLogger("Minesweeper");
+
+    /**
+     * The maximum number of rows.
+     */
+    public final int rowMax;
+
+    /**
+     * The maximum number of columns.
+     */
+    public final int colMax;
+
+    /**
+     * The number of bombs on board.
+     */
+    public final int numBombs;
+
+    /**
+     * The number of cells that can be revealed.
+     */
+    public final int revealableTile;
+
+    /**
+     * The number of columns of every plane, including the guard ring.
+     */
+    private final int width;
+
+    /**
+     * The offsets of the eight cells surrounding a cell.
+     */
+    private final int[] offsets;
+
+    /**
+     * One bit per cell, set if the cell is a bomb.
+     */
+    private long[] bombs;
+
+    /**
+     * One bit per cell, set if the cell is revealed or part of the guard ring.
+     */
+    private long[] revealed;
+
+    /**
+     * One bit per cell, set if the cell is flagged.
+     */
+    private long[] flagged;
+
+    /**
+     * One bit per cell, set while the cell waits in {@link #work} to be revealed.
+     */
+    private long[] pending;
+
+    /**
+     * Four bits per cell holding the number of surrounding bombs.
+     */
+    private long[] counts;
+
+    /**
+     * {@link SplittableRandom} placing the bombs, seeded by {@link #reset(long)}.
+     */
+    private SplittableRandom rand;
+
+    /**
+     * The seed of the current game.
+     */
+    private long seed;
+
+    /**
+     * Ring of cells waiting to be revealed by {@link #open(int)}.<br>
+     * Grown on demand and kept between calls, so flood fills do not allocate.
+     */
+    private int[] work = new int[64];
+
+    /**
+     * The position in {@link #work} of the next cell to reveal.
+     */
+    private int head;
+
+    /**
+     * The position in {@link #work} after the last cell to reveal, equal to
+     * {@link #head} unless an opening is in progress.
+     */
+    private int tail;
+
+    /**
+     * {@link System#nanoTime()} when the opening in {@link #work} started.
+     */
+    private long openStart;
+
+    /**
+     * {@link #numReveal} when the opening in {@link #work} started.
+     */
+    private int openReveal;
+
+    /**
+     * {@link Listener} notified of changed regions, may be {@code null}.
+     */
+    private Listener listener;
+
+    /**
+     * {@link Journal} recording every action, may be {@code null}.
+     */
+    private Journal journal;
+
+    /**
+     * Whether this logs its actions at {@link Level#FINE}.
+     */
+    private boolean logging = true;
+
+    /**
+     * Cells changed since the last {@link #clearChanges()}, while
+     * {@link #tracking}: the index of a revealed cell, or {@code -index - 1} of a
+     * toggled flag.
+     */
+    private int[] changes = new int[64];
+
+    /**
+     * The number of entries of {@link #changes}.
+     */
+    private int numChanges;
+
+    /**
+     * Whether {@link #changes} is recorded.
+     */
+    private boolean tracking;
+
+    /**
+     * The number of games started by {@link #reset(long)}, {@link #swap(Engine)}
+     * or {@link #restore(ByteBuffer)}.
+     */
+    private int generation;
+
+    /**
+     * The smallest and largest index changed by the current action.
+     */
+    private int dirtyMin = Integer.MAX_VALUE, dirtyMax = -1;
+
+    /**
+     * The smallest and largest column changed by the current action, counting the
+     * guard ring.
+     */
+    private int dirtyLeft = Integer.MAX_VALUE, dirtyRight = -1;
+
+    /**
+     * A boolean determine if the first click has been used.<br>
+     * This guarentees that the first click is not a bomb.
+     */
+    private boolean firstClick;
+
+    /**
+     * A boolean determining if the game is over.
+     */
+    private boolean isGameOver;
+
+    /**
+     * A boolean determining if the game has been won.
+     */
+    private boolean isWon;
+
+    /**
+     * The index of the bomb that ended the game, or {@code -1}.
+     */
+    private int exploded;
+
+    /**
+     * Whether a cell was revealed since the game was started or restored.
+     */
+    private boolean isTimed;
+
+    /**
+     * {@link System#nanoTime()} of the first reveal since the game was started
+     * or restored, valid once {@link #isTimed}.
+     */
+    private long startTime;
+
+    /**
+     * {@link System#nanoTime()} when the game ended, valid once
+     * {@link #isGameOver}.
+     */
+    private long endTime;
+
+    /**
+     * The number of cells that are revealed.
+     */
+    private int numReveal;
+
+    /**
+     * The number of bombs left to flag. <br>
+     * This number can go negative, signifying there are more flags then there are
+     * bombs.
+     */
+    private int numFlag;
+
+    /**
+     * Creates an {@code Engine} initialising all atributes.
+     *
+     * @param rowMax   is the maximum number of rows.
+     * @param colMax   is the maximum number of columns.
+     * @param numBombs is the number of bombs on the board.
+     *
+     * @throws IndexOutOfBoundsException if {@code rowMax} is less than 3 or
+     *                                   {@code colMax} is less than 3.
+     * @throws IllegalArgumentException  if {@code numBombs} is greater
+     *                                   ({@code rowMax} * {@code colMax} - 1) or
+     *                                   less than 1, or if the board does not
+     *                                   fit in {@code int} indices.
+     */
+    public Engine(int rowMax, int colMax, int numBombs) throws IndexOutOfBoundsException, IllegalArgumentException {
+        this(rowMax, colMax, numBombs, null);
+    }
+
+    /**
+     * Creates an {@code Engine} holding {@code state}, or a new game if
+     * {@code state} is {@code null}.
+     *
+     * @param rowMax   is the maximum number of rows.
+     * @param colMax   is the maximum number of columns.
+     * @param numBombs is the number of bombs on the board.
+     * @param state    is positioned at the state written by
+     *                 {@link #save(ByteBuffer)}, or {@code null}.
+     *
+     * @throws IndexOutOfBoundsException if {@code rowMax} is less than 3 or
+     *                                   {@code colMax} is less than 3.
+     * @throws IllegalArgumentException  if {@code numBombs} is greater
+     *                                   ({@code rowMax} * {@code colMax} - 1) or
+     *                                   less than 1, or if the board does not
+     *                                   fit in {@code int} indices.
+     * @throws BufferUnderflowException  if {@code state} is cut short.
+     */
+    Engine(int rowMax, int colMax, int numBombs, ByteBuffer state)
+            throws IndexOutOfBoundsException, IllegalArgumentException, BufferUnderflowException {
+        this(rowMax, colMax, numBombs, state, true);
+    }
+
+    /**
+     * Creates an {@code Engine} holding {@code state}, or a new game if
+     * {@code state} is {@code null}, that logs its actions from the start only if
+     * {@code logging} is {@code true}.
+     *
+     * @param rowMax   is the maximum number of rows.
+     * @param colMax   is the maximum number of columns.
+     * @param numBombs is the number of bombs on the board.
+     * @param state    is positioned at the state written by
+     *                 {@link #save(ByteBuffer)}, or {@code null}.
+     * @param logging  is {@code false} to silence this, see
+     *                 {@link #setLogging(boolean)}.
+     *
+     * @throws IndexOutOfBoundsException if {@code rowMax} is less than 3 or
+     *                                   {@code colMax} is less than 3.
+     * @throws IllegalArgumentException  if {@code numBombs} is greater
+     *                                   ({@code rowMax} * {@code colMax} - 1) or
+     *                                   less than 1, or if the board does not
+     *                                   fit in {@code int} indices.
+     * @throws BufferUnderflowException  if {@code state} is cut short.
+     */
+    Engine(int rowMax, int colMax, int numBombs, ByteBuffer state, boolean logging)
+            throws IndexOutOfBoundsException, IllegalArgumentException, BufferUnderflowException {
+        this.logging = logging;
+        if (rowMax < 3)
+            throw new IndexOutOfBoundsException("Illegal maximum number of rows: " + rowMax);
+        else
+            this.rowMax = rowMax;
+
+        if (colMax < 3)
+            throw new IndexOutOfBoundsException("Illegal maximun number of columns: " + colMax);
+        else
+            this.colMax = colMax;
+
+        if (numBombs > this.rowMax * this.colMax - 1 || numBombs < 1)
+            throw new IllegalArgumentException("Illegal number of bombs: " + numBombs);
+        else
+            this.numBombs = numBombs;
+
+        if ((long) (this.rowMax + 2) * (this.colMax + 2) > Integer.MAX_VALUE - 64)
+            throw new IllegalArgumentException(String.format("Board too large: %d x %d", rowMax, colMax));
+
+        this.revealableTile = (this.rowMax * this.colMax) - this.numBombs;
+        this.width = this.colMax + 2;
+        this.offsets = new int[] { -this.width - 1, -this.width, -this.width + 1, -1, 1, this.width - 1, this.width,
+                this.width + 1 };
+        final int size = (this.rowMax + 2) * this.width;
+        this.bombs = new long[(size + 63) >>> 6];
+        this.revealed = new long[(size + 63) >>> 6];
+        this.flagged = new long[(size + 63) >>> 6];
+        this.pending = new long[(size + 63) >>> 6];
+        this.counts = new long[(size + 15) >>> 4];
+
+        if (state == null)
+            this.reset();
+        else
+            this.restore(state);
+    }
+
+    /**
+     * Add {@code delta} to the count of every cell directly surrounding
+     * {@code index}.
+     *
+     * @param index is the index of the center cell.
+     * @param delta is {@code 1} when a bomb is placed and {@code -1} when one is
+     *              removed.
+     */
+    private void adjust(int index, int delta) {
+        for (int offset : this.offsets) {
+            final int next = index + offset;
+            this.counts[next >>> 4] += (long) delta << ((next & 15) << 2);
+        }
+    }
+
+    /**
+     * Append {@code entry} to {@link #changes}.
+     *
+     * @param entry is the entry to append.
+     */
+    private void change(int entry) {
+        if (this.numChanges == this.changes.length)
+            this.changes = Arrays.copyOf(this.changes, this.numChanges << 1);
+        this.changes[this.numChanges++] = entry;
+    }
+
+    /**
+     * Determine the cells changed since the last {@link #clearChanges()}.<br>
+     * Only recorded after {@link #trackChanges()}.
+     *
+     * @return the backing array, holding {@link #getNumChanges()} entries: the
+     *         index of a revealed cell, or {@code -index - 1} of a toggled flag.
+     */
+    int[] getChanges() {
+        return this.changes;
+    }
+
+    /**
+     * Determine the number of entries of {@link #getChanges()}.
+     *
+     * @return {@link #numChanges}
+     */
+    int getNumChanges() {
+        return this.numChanges;
+    }
+
+    /**
+     * Forget every entry of {@link #getChanges()}.
+     */
+    void clearChanges() {
+        this.numChanges = 0;
+    }
+
+    /**
+     * Determine the number of games started on this.<br>
+     * The count changes whenever every cell may have changed at once.
+     *
+     * @return {@link #generation}
+     */
+    int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Determine the number of columns of every plane, including the guard ring.
+     *
+     * @return {@link #width}
+     */
+    int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Determine the offsets of the eight cells surrounding a cell.
+     *
+     * @return {@link #offsets}, which must not be modified.
+     */
+    int[] getOffsets() {
+        return this.offsets;
+    }
+
+    /**
+     * Determine if the cell at {@code index} is a bomb.
+     *
+     * @param index is the index of the cell.
+     *
+     * @return {@code true} if the cell is a bomb.
+     */
+    boolean isBombAt(int index) {
+        return test(this.bombs, index);
+    }
+
+    /**
+     * Determine if the cell at {@code index} is flagged.
+     *
+     * @param index is the index of the cell.
+     *
+     * @return {@code true} if the cell is flagged.
+     */
+    boolean isFlaggedAt(int index) {
+        return test(this.flagged, index);
+    }
+
+    /**
+     * Determine if the cell at {@code index} is revealed.<br>
+     * Cells of the guard ring are always revealed.
+     *
+     * @param index is the index of the cell.
+     *
+     * @return {@code true} if the cell is revealed.
+     */
+    boolean isRevealedAt(int index) {
+        return test(this.revealed, index);
+    }
+
+    /**
+     * Determine {@code row * colMax + col} of the cell at {@code index}.
+     *
+     * @param index is the index of a cell of the board.
+     *
+     * @return the cell number used by {@link Journal}.
+     */
+    int toCell(int index) {
+        return (index / this.width - 1) * this.colMax + (index % this.width - 1);
+    }
+
+    /**
+     * Record every change into {@link #getChanges()} from now on.
+     */
+    void trackChanges() {
+        this.tracking = true;
+    }
+
+    /**
+     * Clear the bit of {@code index} in {@code plane}.
+     *
+     * @param plane is the bit plane.
+     * @param index is the index of the cell.
+     */
+    private static void clear(long[] plane, int index) {
+        plane[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Determine the number of bombs surrounding {@code index}.
+     *
+     * @param index is the index of the cell.
+     *
+     * @return the count of the cell.
+     */
+    int count(int index) {
+        return (int) (this.counts[index >>> 4] >>> ((index & 15) << 2)) & 0xF;
+    }
+
+    /**
+     * Abandon the opening in progress, if any, leaving its waiting cells hidden.
+     */
+    private void drop() {
+        for (int i = this.head, mask = this.work.length - 1; i != this.tail; i = (i + 1) & mask)
+            clear(this.pending, this.work[i]);
+        this.head = this.tail = 0;
+    }
+
+    /**
+     * Notify {@link #listener} of every cell marked since the last call, then
+     * clear the marks.
+     */
+    private void flush() {
+        if (this.dirtyMax < 0)
+            return;
+        if (this.listener != null)
+            this.listener.regionChanged(this.dirtyMin / this.width - 1, this.dirtyLeft - 1,
+                    this.dirtyMax / this.width - 1, this.dirtyRight - 1);
+
+        this.dirtyMin = this.dirtyLeft = Integer.MAX_VALUE;
+        this.dirtyMax = this.dirtyRight = -1;
+    }
+
+    /**
+     * Mark every cell of the board as changed.
+     */
+    private void markAll() {
+        this.dirtyMin = this.width + 1;
+        this.dirtyMax = this.rowMax * this.width + this.colMax;
+        this.dirtyLeft = 1;
+        this.dirtyRight = this.colMax;
+    }
+
+    /**
+     * Determine the number of bombs surrounding a cell.
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     *
+     * @return the number of bombs surrounding ({@code row}, {@code col}).
+     */
+    public int getCount(int row, int col) {
+        return this.count(this.index(row, col));
+    }
+
+    /**
+     * Determine when the game ended, on the thread running this.
+     *
+     * @return {@link System#nanoTime()} when the game ended, valid once it is
+     *         over.
+     */
+    public long getEndTime() {
+        return this.endTime;
+    }
+
+    /**
+     * Determine the bomb that ended the game.
+     *
+     * @return {@code row * colMax + col} of the bomb, or {@code -1}.
+     */
+    public int getExploded() {
+        if (this.exploded < 0)
+            return -1;
+        return (this.exploded / this.width - 1) * this.colMax + (this.exploded % this.width - 1);
+    }
+
+    /**
+     * Stamp the guard ring: every guard cell is revealed, and is never a bomb,
+     * flagged or pending.
+     */
+    private void guard() {
+        final int last = (this.rowMax + 1) * this.width;
+        for (int index = 0; index < this.width; ++index) {
+            this.guard(index);
+            this.guard(last + index);
+        }
+        for (int index = this.width; index < last; index += this.width) {
+            this.guard(index);
+            this.guard(index + this.width - 1);
+        }
+    }
+
+    /**
+     * Stamp the guard cell at {@code index}.
+     *
+     * @param index is the index of a cell of the guard ring.
+     */
+    private void guard(int index) {
+        set(this.revealed, index);
+        clear(this.bombs, index);
+        clear(this.flagged, index);
+        clear(this.pending, index);
+    }
+
+    /**
+     * Determine the index of ({@code row}, {@code col}) in every plane.
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     *
+     * @return the index of the cell.
+     *
+     * @throws IndexOutOfBoundsException if ({@code row}, {@code col}) is not on the
+     *                                   board.
+     */
+    private int index(int row, int col) throws IndexOutOfBoundsException {
+        if (row < 0 || row >= this.rowMax || col < 0 || col >= this.colMax)
+            throw new IndexOutOfBoundsException(String.format("(%d, %d)", row, col));
+        return (row + 1) * this.width + col + 1;
+    }
+
+    /**
+     * Determine the number of bombs left to flag.
+     *
+     * @return {@link #numFlag}
+     */
+    public int getFlags() {
+        return this.numFlag;
+    }
+
+    /**
+     * Determine if the game is over.
+     *
+     * @return {@link #isGameOver}
+     */
+    public boolean getGameOver() {
+        return this.isGameOver;
+    }
+
+    /**
+     * Determine the number of cells that have been revealed.
+     *
+     * @return {@link #numReveal}
+     */
+    public int getNumReveal() {
+        return this.numReveal;
+    }
+
+    /**
+     * Determine if the cell at ({@code row}, {@code col}) is a bomb.
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     *
+     * @return {@code true} if the cell is a bomb.
+     */
+    public boolean isBomb(int row, int col) {
+        return test(this.bombs, this.index(row, col));
+    }
+
+    /**
+     * Determine if the cell at ({@code row}, {@code col}) is flagged.
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     *
+     * @return {@code true} if the cell is flagged.
+     */
+    public boolean isFlagged(int row, int col) {
+        return test(this.flagged, this.index(row, col));
+    }
+
+    /**
+     * Determine if the cell at ({@code row}, {@code col}) is revealed.
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     *
+     * @return {@code true} if the cell is revealed.
+     */
+    public boolean isRevealed(int row, int col) {
+        return test(this.revealed, this.index(row, col));
+    }
+
+    /**
+     * Determine if the game has been won.
+     *
+     * @return {@link #isWon}
+     */
+    public boolean isWon() {
+        return this.isWon;
+    }
+
+    /**
+     * Read the state written by {@link #save(ByteBuffer)} into this.<br>
+     * The counts are rebuilt from the bombs rather than stored.
+     *
+     * @param in is positioned at the state, and is left after it.
+     *
+     * @throws BufferUnderflowException if {@code in} is cut short.
+     */
+    void restore(ByteBuffer in) throws BufferUnderflowException {
+        this.seed = in.getLong();
+        final byte flags = in.get();
+        this.firstClick = (flags & 1) != 0;
+        this.isGameOver = (flags & 2) != 0;
+        this.isWon = (flags & 4) != 0;
+        this.exploded = in.getInt();
+        this.numReveal = in.getInt();
+        this.numFlag = in.getInt();
+        ++this.generation;
+        this.numChanges = 0;
+        this.drop();
+        this.isTimed = false;
+
+        for (long[] plane : new long[][] { this.bombs, this.revealed, this.flagged }) {
+            in.asLongBuffer().get(plane);
+            in.position(in.position() + (plane.length << 3));
+        }
+        // The planes are read as saved, so a damaged file cannot unguard the board.
+        this.guard();
+
+        Arrays.fill(this.counts, 0L);
+        for (int word = 0; word < this.bombs.length; ++word)
+            for (long bits = this.bombs[word]; bits != 0; bits &= bits - 1)
+                this.adjust((word << 6) + Long.numberOfTrailingZeros(bits), 1);
+
+        // Repeat the draws of reset(long), so the first click moves the same bomb.
+        this.rand = new SplittableRandom(this.seed);
+        if (this.firstClick)
+            for (int size = this.rowMax * this.colMax, j = size - this.numBombs; j < size; ++j)
+                this.rand.nextInt(j + 1);
+
+        this.record(Journal.RESTORE, -1);
+        this.markAll();
+        this.flush();
+    }
+
+    /**
+     * Write the state of the game to {@code out}: the seed, the flags and counters,
+     * and the bomb, revealed and flagged planes.
+     *
+     * An opening in progress is finished first, so the counters match the planes.
+     *
+     * @param out has at least {@link #stateSize()} bytes remaining.
+     */
+    void save(ByteBuffer out) {
+        this.open(Integer.MAX_VALUE);
+        out.putLong(this.seed);
+        out.put((byte) ((this.firstClick ? 1 : 0) | (this.isGameOver ? 2 : 0) | (this.isWon ? 4 : 0)));
+        out.putInt(this.exploded);
+        out.putInt(this.numReveal);
+        out.putInt(this.numFlag);
+
+        for (long[] plane : new long[][] { this.bombs, this.revealed, this.flagged }) {
+            out.asLongBuffer().put(plane);
+            out.position(out.position() + (plane.length << 3));
+        }
+    }
+
+    /**
+     * Determine the size of the state written by {@link #save(ByteBuffer)}.
+     *
+     * @return the number of bytes.
+     */
+    int stateSize() {
+        return 8 + 1 + 3 * 4 + 3 * (this.bombs.length << 3);
+    }
+
+    /**
+     * Determine the seed of the current game.<br>
+     * The seed and the first revealed cell determine the layout of the bombs.
+     *
+     * @return {@link #seed}
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Determine when play started, on the thread running this. Restoring a game
+     * starts it again at the next reveal.
+     *
+     * @return {@link System#nanoTime()} of the first reveal since the game was
+     *         started or restored, valid once a cell is revealed.
+     */
+    public long getStartTime() {
+        return this.startTime;
+    }
+
+    /**
+     * Creates a new game with a random seed.
+     */
+    public void reset() {
+        this.reset(seeds.get().nextLong());
+    }
+
+    /**
+     * Creates a new game with a seed drawn from {@code seeds}.<br>
+     * Generating threads that each draw from their own split of one master
+     * {@link SplittableRandom} produce the same games on every run.
+     *
+     * @param seeds is the {@link SplittableRandom} of the calling thread.
+     */
+    public void reset(SplittableRandom seeds) {
+        this.reset(seeds.nextLong());
+    }
+
+    /**
+     * Creates a new game from {@code seed}.<br>
+     * Two engines of the same size reset with the same seed place the same bombs,
+     * and move the same bomb if their first click lands on one.
+     *
+     * @param seed is the seed of the game.
+     */
+    public void reset(long seed) {
+        if (this.logging && logger.isLoggable(Level.FINE))
+            logger.fine(() -> "Reset engine:\t" + seed);
+        this.seed = seed;
+        this.rand = new SplittableRandom(seed);
+        ++this.generation;
+        this.numChanges = 0;
+        this.drop();
+        this.isTimed = false;
+
+        this.isGameOver = false;
+        this.isWon = false;
+        this.firstClick = true;
+        this.exploded = -1;
+        this.numFlag = this.numBombs;
+        this.numReveal = 0;
+
+        Arrays.fill(this.bombs, 0L);
+        Arrays.fill(this.revealed, 0L);
+        Arrays.fill(this.flagged, 0L);
+        Arrays.fill(this.counts, 0L);
+        this.guard();
+
+        // Floyd's sampling: exactly numBombs draws at any density.
+        final int size = this.rowMax * this.colMax;
+        for (int j = size - this.numBombs; j < size; ++j) {
+            int index = this.toIndex(this.rand.nextInt(j + 1));
+            if (test(this.bombs, index))
+                index = this.toIndex(j);
+            set(this.bombs, index);
+        }
+
+        for (int word = 0; word < this.bombs.length; ++word)
+            for (long bits = this.bombs[word]; bits != 0; bits &= bits - 1)
+                this.adjust((word << 6) + Long.numberOfTrailingZeros(bits), 1);
+
+        this.record(Journal.RESET, -1);
+        this.markAll();
+        this.flush();
+    }
+
+    /**
+     * Mark {@code index} as changed by the current action.
+     *
+     * @param index is the index of the cell.
+     */
+    private void mark(int index) {
+        final int col = index % this.width;
+        this.dirtyMin = Math.min(this.dirtyMin, index);
+        this.dirtyMax = Math.max(this.dirtyMax, index);
+        this.dirtyLeft = Math.min(this.dirtyLeft, col);
+        this.dirtyRight = Math.max(this.dirtyRight, col);
+    }
+
+    /**
+     * Append an action to {@link #journal}, if any.<br>
+     * A journal that fails to write is logged and detached, so recording can never
+     * end a game.
+     *
+     * @param type  is the type of the record, one of the {@link Journal}
+     *              constants.
+     * @param index is the index of the cell, ignored by {@link Journal#RESET} and
+     *              {@link Journal#RESTORE}.
+     */
+    private void record(int type, int index) {
+        if (this.journal == null)
+            return;
+
+        try {
+            if (type == Journal.RESET)
+                this.journal.reset(this.rowMax, this.colMax, this.numBombs, this.seed);
+            else if (type == Journal.RESTORE)
+                this.journal.restore(this.rowMax, this.colMax, this.numBombs, this.seed);
+            else
+                this.journal.record(type, this.toCell(index));
+        } catch (IOException ioe) {
+            logger.log(Level.WARNING, "Journal detached", ioe);
+            this.journal = null;
+        }
+    }
+
+    /**
+     * Pick a free cell for the bomb moved away from the first click.<br>
+     * Rejection sampling is used while at least half of the board is free, so it
+     * takes at most two draws on average. Denser boards pick the k<sup>th</sup>
+     * free cell in a single scan instead.
+     *
+     * @param clicked is the index of the first click.
+     *
+     * @return the index of a cell that is neither a bomb nor {@code clicked}.
+     */
+    private int relocate(int clicked) {
+        final int size = this.rowMax * this.colMax, free = size - this.numBombs;
+
+        if (free * 2 >= size) {
+            int index = this.toIndex(this.rand.nextInt(size));
+            while (index == clicked || test(this.bombs, index))
+                index = this.toIndex(this.rand.nextInt(size));
+            return index;
+        }
+
+        int k = this.rand.nextInt(free);
+        for (int cell = 0;; ++cell) {
+            final int index = this.toIndex(cell);
+            if (index != clicked && !test(this.bombs, index) && k-- == 0)
+                return index;
+        }
+    }
+
+    /**
+     * Reveal the cell at ({@code row}, {@code col}).
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     *
+     * @return {@code true} if anything changed.
+     *
+     * @throws IndexOutOfBoundsException if ({@code row}, {@code col}) is not on the
+     *                                   board.
+     */
+    public boolean reveal(int row, int col) throws IndexOutOfBoundsException {
+        return this.revealAt(this.index(row, col), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reveal the cell at ({@code row}, {@code col}), revealing at most
+     * {@code budget} cells of the opening it starts.<br>
+     * The rest of the opening stays queued for {@link #open(int)}. Its cells
+     * already read as revealed, but only count towards {@link #getNumReveal()}
+     * and the end of the game once opened. Any other reveal finishes it first.
+     *
+     * @param row    is the row of the cell.
+     * @param col    is the column of the cell.
+     * @param budget is the number of cells to reveal now, at least 1.
+     *
+     * @return {@code true} if anything changed.
+     *
+     * @throws IndexOutOfBoundsException if ({@code row}, {@code col}) is not on the
+     *                                   board.
+     */
+    public boolean reveal(int row, int col, int budget) throws IndexOutOfBoundsException {
+        return this.revealAt(this.index(row, col), budget);
+    }
+
+    /**
+     * Reveal the cell at {@code index}.
+     *
+     * @param index is the index of a cell of the board.
+     *
+     * @return {@code true} if anything changed.
+     */
+    boolean revealAt(int index) {
+        return this.revealAt(index, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reveal the cell at {@code index}, revealing at most {@code budget} cells of
+     * its opening.
+     *
+     * @param index  is the index of a cell of the board.
+     * @param budget is the number of cells to reveal now, at least 1.
+     *
+     * @return {@code true} if anything changed.
+     */
+    private boolean revealAt(int index, int budget) {
+        this.open(Integer.MAX_VALUE);
+        if (test(this.flagged, index) || test(this.revealed, index))
+            return false;
+        if (this.isGameOver)
+            return false;
+
+        if (this.firstClick) {
+            if (this.logging && logger.isLoggable(Level.FINE))
+                logger.fine("Guaranteeing that first click is not a bomb");
+            this.firstClick = false;
+
+            if (test(this.bombs, index)) {
+                clear(this.bombs, index);
+                this.adjust(index, -1);
+
+                final int moved = this.relocate(index);
+                if (this.logging && logger.isLoggable(Level.FINE))
+                    logger.fine(() -> String.format("Placing the bomb at (%d, %d)", moved / this.width - 1,
+                            moved % this.width - 1));
+                set(this.bombs, moved);
+                this.adjust(moved, 1);
+            }
+        }
+
+        this.record(Journal.REVEAL, index);
+        if (!this.isTimed) {
+            this.isTimed = true;
+            this.startTime = System.nanoTime();
+        }
+
+        if (test(this.bombs, index)) {
+            this.isGameOver = true;
+            this.endTime = System.nanoTime();
+            this.exploded = index;
+            this.markAll();
+            this.flush();
+            return true;
+        }
+
+        set(this.pending, index);
+        this.work[0] = index;
+        this.head = 0;
+        this.tail = 1;
+        this.openStart = System.nanoTime();
+        this.openReveal = this.numReveal;
+        this.open(budget);
+        return true;
+    }
+
+    /**
+     * Determine if an opening started by {@link #reveal(int, int, int)} still
+     * has cells to reveal.
+     *
+     * @return {@code true} if {@link #open(int)} has work left.
+     */
+    public boolean isOpening() {
+        return this.head != this.tail;
+    }
+
+    /**
+     * Continue the opening in progress, revealing at most {@code budget} cells
+     * and flooding outwards from every revealed cell with no surrounding
+     * bombs.<br>
+     * The cells revealed are flushed as one region, and the game is won once the
+     * last cell is revealed. One record of the whole opening is logged at
+     * {@link Level#FINE} when it ends.<br>
+     * A cell is marked {@link #pending} as it is pushed onto {@link #work} and
+     * only marked revealed as it is revealed, so every cell is pushed and
+     * revealed once, and the cells still waiting read as hidden to everyone,
+     * {@link Change} included.
+     *
+     * @param budget is the number of cells to reveal, at least 1.
+     *
+     * @return {@code true} if the opening still has cells to reveal.
+     */
+    public boolean open(int budget) {
+        final boolean wasOpening = this.head != this.tail;
+        final long[] revealed = this.revealed, flagged = this.flagged, pending = this.pending;
+        final int[] offsets = this.offsets;
+        int[] work = this.work;
+        int mask = work.length - 1, head = this.head, tail = this.tail;
+
+        for (; head != tail && budget > 0; --budget) {
+            final int index = work[head];
+            head = (head + 1) & mask;
+
+            clear(pending, index);
+            set(revealed, index);
+            ++this.numReveal;
+            this.mark(index);
+            if (this.tracking)
+                this.change(index);
+
+            if (this.count(index) != 0)
+                continue;
+
+            for (int offset : offsets) {
+                final int next = index + offset;
+                if (((revealed[next >>> 6] | flagged[next >>> 6] | pending[next >>> 6]) & 1L << next) != 0)
+                    continue;
+
+                set(pending, next);
+                work[tail] = next;
+                tail = (tail + 1) & mask;
+
+                if (tail == head) {
+                    final int[] grown = new int[work.length << 1];
+                    System.arraycopy(work, head, grown, 0, work.length - head);
+                    System.arraycopy(work, 0, grown, work.length - head, head);
+                    head = 0;
+                    tail = work.length;
+                    mask = grown.length - 1;
+                    this.work = work = grown;
+                }
+            }
+        }
+
+        this.head = head;
+        this.tail = tail;
+        if (!this.isGameOver && head == tail && this.numReveal == this.revealableTile) {
+            this.isGameOver = true;
+            this.endTime = System.nanoTime();
+            this.isWon = true;
+        }
+        if (wasOpening && head == tail && this.logging && logger.isLoggable(Level.FINE))
+            logger.fine(() -> String.format("Opened %d cells in %.3f ms", this.numReveal - this.openReveal,
+                    (System.nanoTime() - this.openStart) / 1e6));
+        this.flush();
+        return head != tail;
+    }
+
+    /**
+     * Start the game prepared by {@code other} in O(1) by exchanging planes with
+     * it.<br>
+     * {@code other} is left holding the planes of the previous game and must be
+     * reset before it is used again.
+     *
+     * @param other is an {@link Engine} of the same size, freshly reset and not
+     *              used by any other thread.
+     *
+     * @throws IllegalArgumentException if {@code other} is not the size of this.
+     */
+    void swap(Engine other) throws IllegalArgumentException {
+        if (other.rowMax != this.rowMax || other.colMax != this.colMax || other.numBombs != this.numBombs)
+            throw new IllegalArgumentException("Cannot swap with an engine of another size");
+        if (this.logging && logger.isLoggable(Level.FINE))
+            logger.fine(() -> "Swap in prepared engine:\t" + other.seed);
+
+        long[] plane = this.bombs;
+        this.bombs = other.bombs;
+        other.bombs = plane;
+        plane = this.revealed;
+        this.revealed = other.revealed;
+        other.revealed = plane;
+        plane = this.flagged;
+        this.flagged = other.flagged;
+        other.flagged = plane;
+        plane = this.counts;
+        this.counts = other.counts;
+        other.counts = plane;
+
+        final SplittableRandom rand = this.rand;
+        this.rand = other.rand;
+        other.rand = rand;
+        this.seed = other.seed;
+        ++this.generation;
+        this.numChanges = 0;
+        this.drop();
+        this.isTimed = false;
+
+        this.isGameOver = false;
+        this.isWon = false;
+        this.firstClick = true;
+        this.exploded = -1;
+        this.numFlag = this.numBombs;
+        this.numReveal = 0;
+
+        this.record(Journal.RESET, -1);
+        this.markAll();
+        this.flush();
+    }
+
+    /**
+     * Split a {@link SplittableRandom} off {@link #master} for the calling thread.
+     *
+     * @return the new {@link SplittableRandom}.
+     */
+    private static SplittableRandom split() {
+        synchronized (master) {
+            return master.split();
+        }
+    }
+
+    /**
+     * Set the bit of {@code index} in {@code plane}.
+     *
+     * @param plane is the bit plane.
+     * @param index is the index of the cell.
+     */
+    private static void set(long[] plane, int index) {
+        plane[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Set {@link #journal} to {@code journal}.<br>
+     * A {@link Journal#RESET} record is written first, so a journal always starts
+     * with the size of the board.
+     *
+     * @param journal is the new {@link Journal}, or {@code null}.
+     */
+    public void setJournal(Journal journal) {
+        this.journal = journal;
+        this.record(Journal.RESET, -1);
+    }
+
+    /**
+     * Set whether this logs its actions.<br>
+     * Engines used internally, such as the candidates of {@link Generator}, are
+     * silenced so they do not flood the log.
+     *
+     * @param logging is {@code false} to silence this.
+     */
+    void setLogging(boolean logging) {
+        this.logging = logging;
+    }
+
+    /**
+     * Set {@link #listener} to {@code listener}.
+     *
+     * @param listener is the new {@link Listener}, or {@code null}.
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Determine if the bit of {@code index} in {@code plane} is set.
+     *
+     * @param plane is the bit plane.
+     * @param index is the index of the cell.
+     *
+     * @return {@code true} if the bit is set.
+     */
+    private static boolean test(long[] plane, int index) {
+        return (plane[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Determine the index in every plane of the {@code cell}<sup>th</sup> cell
+     * of the board in row major order.
+     *
+     * @param cell is in the range [0, {@code rowMax * colMax}).
+     *
+     * @return the index of the cell.
+     */
+    private int toIndex(int cell) {
+        return (cell / this.colMax + 1) * this.width + cell % this.colMax + 1;
+    }
+
+    /**
+     * Toggle the flag on the cell at ({@code row}, {@code col}).
+     *
+     * @param row is the row of the cell.
+     * @param col is the column of the cell.
+     *
+     * @return {@code true} if anything changed.
+     *
+     * @throws IndexOutOfBoundsException if ({@code row}, {@code col}) is not on the
+     *                                   board.
+     */
+    public boolean toggleFlag(int row, int col) throws IndexOutOfBoundsException {
+        return this.toggleFlagAt(this.index(row, col));
+    }
+
+    /**
+     * Toggle the flag on the cell at {@code index}.
+     *
+     * @param index is the index of a cell of the board.
+     *
+     * @return {@code true} if anything changed.
+     */
+    boolean toggleFlagAt(int index) {
+        if (test(this.revealed, index) || test(this.pending, index))
+            return false;
+        if (this.isGameOver)
+            return false;
+
+        this.flagged[index >>> 6] ^= 1L << index;
+        final boolean isFlagged = test(this.flagged, index);
+        this.numFlag += isFlagged ? -1 : 1;
+        this.record(isFlagged ? Journal.FLAG : Journal.UNFLAG, index);
+        if (this.tracking)
+            this.change(-index - 1);
+        this.mark(index);
+        this.flush();
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder();
+        for (int row = 0; row < this.rowMax; ++row) {
+            for (int col = 0; col < this.colMax; ++col)
+                str.append(this.getCount(row, col)).append('\t');
+            str.append('\n');
+        }
+        return str.toString();
+    }
+}
@@ -0,0 +1,201 @@
+package main.engine;
+
+import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Search for games that {@link Solver} wins from a given first click.<br>
+ * Candidate {@code i} is the game of a seed derived from a base seed and
+ * {@code i}. Candidates are tried in rounds, each round split across the
+ * {@link ForkJoinPool#commonPool() common pool} in batches of {@link #BATCH},
+ * and every batch stops as soon as a lower candidate is known to be solvable.
+ * The lowest solvable candidate is returned, so the result does not depend on
+ * the number of threads or on scheduling.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Generator {
+    /**
+     * The default time allowed for a search in nanoseconds.
+     */
+    public static final long BUDGET = 100_000_000L;
+
+    /**
+     * The number of candidates tried by one task.
+     */
+    public static final int BATCH = 8;
+
+    /**
+     * {@link Engine} reused by each thread to try candidates.
+     */
+    private static final ThreadLocal<Engine> engines = new ThreadLocal<>();
+
+    /**
+     * Do not instantiate.
+     */
+    private Generator() {
+    }
+
+    /**
+     * Determine the seed of candidate {@code i}.
+     *
+     * @param base is the base seed.
+     * @param i    is the index of the candidate.
+     *
+     * @return a well mixed seed.
+     */
+    private static long candidate(long base, long i) {
+        long z = base + (i + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Determine if candidate {@code seed} is won by {@link Solver} from
+     * ({@code row}, {@code col}).
+     *
+     * @param template is an {@link Engine} of the size to try.
+     * @param seed     is the seed of the candidate.
+     * @param row      is the row of the first click.
+     * @param col      is the column of the first click.
+     *
+     * @return {@code true} if no guess is needed.
+     */
+    private static boolean isSolvable(Engine template, long seed, int row, int col) {
+        Engine engine = engines.get();
+        if (engine == null || engine.rowMax != template.rowMax || engine.colMax != template.colMax
+                || engine.numBombs != template.numBombs) {
+            engine = new Engine(template.rowMax, template.colMax, template.numBombs, null, false);
+            engines.set(engine);
+        }
+
+        engine.reset(seed);
+        engine.reveal(row, col);
+        return new Solver(engine).solve();
+    }
+
+    /**
+     * Find a game the size of {@code template} that can be won from
+     * ({@code row}, {@code col}) without guessing.<br>
+     * The same seed of {@code template}, click and budget always give the same
+     * result, unless the budget runs out.
+     *
+     * @param template is an {@link Engine} of the size to generate, whose seed is
+     *                 the base seed of the candidates.
+     * @param row      is the row of the first click.
+     * @param col      is the column of the first click.
+     * @param budget   is the nanoseconds allowed for the search.
+     *
+     * @return the seed of the game, or nothing if the budget ran out.
+     */
+    public static OptionalLong noGuess(Engine template, int row, int col, long budget) {
+        final long base = template.getSeed(), deadline = System.nanoTime() + budget;
+        final int round = BATCH * 4 * ForkJoinPool.commonPool().getParallelism();
+        final AtomicLong best = new AtomicLong(Long.MAX_VALUE);
+
+        for (long start = 0; System.nanoTime() < deadline; start += round) {
+            ForkJoinPool.commonPool().invoke(new Search(template, base, row, col, start, start + round, best,
+                    deadline));
+            if (best.get() != Long.MAX_VALUE)
+                return OptionalLong.of(candidate(base, best.get()));
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * {@link RecursiveAction} trying a range of candidates, split into batches of
+     * {@link Generator#BATCH}.
+     */
+    private static final class Search extends RecursiveAction {
+        /**
+         * serialVersionUID
+         */
+        private static final long serialVersionUID = 0x5E4C8A2F1B3D7E61L;
+
+        /**
+         * An {@link Engine} of the size to try.
+         */
+        private final transient Engine template;
+
+        /**
+         * The base seed of the candidates.
+         */
+        private final long base;
+
+        /**
+         * The first click.
+         */
+        private final int row, col;
+
+        /**
+         * The first candidate and one past the last candidate.
+         */
+        private final long lo, hi;
+
+        /**
+         * The lowest solvable candidate found so far.
+         */
+        private final AtomicLong best;
+
+        /**
+         * {@link System#nanoTime()} at which the search gives up.
+         */
+        private final long deadline;
+
+        /**
+         * Create a {@code Search} of the candidates in [{@code lo}, {@code hi}).
+         *
+         * @param template is an {@link Engine} of the size to try.
+         * @param base     is the base seed of the candidates.
+         * @param row      is the row of the first click.
+         * @param col      is the column of the first click.
+         * @param lo       is the first candidate.
+         * @param hi       is one past the last candidate.
+         * @param best     is the lowest solvable candidate found so far.
+         * @param deadline is when to give up.
+         */
+        Search(Engine template, long base, int row, int col, long lo, long hi, AtomicLong best, long deadline) {
+            this.template = template;
+            this.base = base;
+            this.row = row;
+            this.col = col;
+            this.lo = lo;
+            this.hi = hi;
+            this.best = best;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.hi - this.lo > BATCH) {
+                final long mid = (this.lo + this.hi) >>> 1;
+                invokeAll(this.range(this.lo, mid), this.range(mid, this.hi));
+                return;
+            }
+
+            for (long i = this.lo; i < this.hi && i < this.best.get() && System.nanoTime() < this.deadline; ++i) {
+                if (isSolvable(this.template, candidate(this.base, i), this.row, this.col)) {
+                    this.best.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Create a {@code Search} of the candidates in [{@code lo}, {@code hi}) of
+         * the same game.
+         *
+         * @param lo is the first candidate.
+         * @param hi is one past the last candidate.
+         *
+         * @return the {@code Search}.
+         */
+        private Search range(long lo, long hi) {
+            return new Search(this.template, this.base, this.row, this.col, lo, hi, this.best, this.deadline);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package main.engine;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compact binary record of every action of an {@link Engine}.<br>
+ * A journal starts with the four bytes {@code MSJ1}, followed by one record
+ * per action: a type byte, the nanoseconds since the previous record and the
+ * arguments of the type, each an unsigned LEB128 varint. A type of {@code 0}
+ * marks the end. Records are appended straight into a memory mapped window of
+ * the file that is moved forward {@link #CHUNK} bytes at a time, so an action
+ * costs a few stores and no system call.<br>
+ * A {@code Journal} is not thread safe; it is written by the thread driving its
+ * {@link Engine}.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Journal implements Closeable {
+    /**
+     * A cell was revealed. The argument is {@code row * colMax + col}.
+     */
+    public static final int REVEAL = 1;
+
+    /**
+     * A flag was placed. The argument is {@code row * colMax + col}.
+     */
+    public static final int FLAG = 2;
+
+    /**
+     * A flag was removed. The argument is {@code row * colMax + col}.
+     */
+    public static final int UNFLAG = 3;
+
+    /**
+     * A new game was started. The arguments are the number of rows, columns and
+     * bombs, and the seed.
+     */
+    public static final int RESET = 4;
+
+    /**
+     * A saved game was continued. The arguments are those of {@link #RESET}. The
+     * moves made before the game was saved are not in the journal.
+     */
+    public static final int RESTORE = 5;
+
+    /**
+     * The first four bytes of every journal.
+     */
+    private static final int MAGIC = 'M' << 24 | 'S' << 16 | 'J' << 8 | '1';
+
+    /**
+     * The size of the mapped window in bytes.
+     */
+    public static final int CHUNK = 1 << 20;
+
+    /**
+     * The largest record in bytes: a type byte, the time, three {@code int}
+     * varints and the seed.
+     */
+    private static final int RECORD_MAX = 1 + 10 + 3 * 5 + 10;
+
+    /**
+     * The file being written.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The mapped window records are appended to.
+     */
+    private MappedByteBuffer buffer;
+
+    /**
+     * The position of {@link #buffer} in the file.
+     */
+    private long base;
+
+    /**
+     * {@link System#nanoTime()} of the last record.
+     */
+    private long last;
+
+    /**
+     * Create a {@code Journal} writing to {@code path}, replacing any existing
+     * file.
+     *
+     * @param path is the file to write.
+     *
+     * @throws IOException if the file cannot be opened or mapped.
+     */
+    public Journal(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, CHUNK);
+        this.buffer.putInt(MAGIC);
+        this.last = System.nanoTime();
+    }
+
+    /**
+     * Determine the number of bytes written.
+     *
+     * @return the length of the journal, without the end marker.
+     */
+    public long length() {
+        return this.base + this.buffer.position();
+    }
+
+    /**
+     * Append a record of {@code type} with a single argument.
+     *
+     * @param type is {@link #REVEAL}, {@link #FLAG} or {@link #UNFLAG}.
+     * @param cell is {@code row * colMax + col} of the cell.
+     *
+     * @throws IOException if the next window cannot be mapped.
+     */
+    public void record(int type, int cell) throws IOException {
+        this.begin(type);
+        putVarint(this.buffer, cell);
+    }
+
+    /**
+     * Append a {@link #RESET} record.
+     *
+     * @param rowMax   is the number of rows.
+     * @param colMax   is the number of columns.
+     * @param numBombs is the number of bombs.
+     * @param seed     is the seed of the game.
+     *
+     * @throws IOException if the next window cannot be mapped.
+     */
+    public void reset(int rowMax, int colMax, int numBombs, long seed) throws IOException {
+        this.start(RESET, rowMax, colMax, numBombs, seed);
+    }
+
+    /**
+     * Append a {@link #RESTORE} record.
+     *
+     * @param rowMax   is the number of rows.
+     * @param colMax   is the number of columns.
+     * @param numBombs is the number of bombs.
+     * @param seed     is the seed of the game.
+     *
+     * @throws IOException if the next window cannot be mapped.
+     */
+    public void restore(int rowMax, int colMax, int numBombs, long seed) throws IOException {
+        this.start(RESTORE, rowMax, colMax, numBombs, seed);
+    }
+
+    /**
+     * Append a record starting a game.
+     *
+     * @param type     is {@link #RESET} or {@link #RESTORE}.
+     * @param rowMax   is the number of rows.
+     * @param colMax   is the number of columns.
+     * @param numBombs is the number of bombs.
+     * @param seed     is the seed of the game.
+     *
+     * @throws IOException if the next window cannot be mapped.
+     */
+    private void start(int type, int rowMax, int colMax, int numBombs, long seed) throws IOException {
+        this.begin(type);
+        putVarint(this.buffer, rowMax);
+        putVarint(this.buffer, colMax);
+        putVarint(this.buffer, numBombs);
+        putVarint(this.buffer, seed);
+    }
+
+    /**
+     * Make room for a record and write its type and time.
+     *
+     * @param type is the type of the record.
+     *
+     * @throws IOException if the next window cannot be mapped.
+     */
+    private void begin(int type) throws IOException {
+        if (this.buffer.remaining() < RECORD_MAX) {
+            this.base += this.buffer.position();
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, this.base, CHUNK);
+        }
+
+        final long now = System.nanoTime();
+        this.buffer.put((byte) type);
+        putVarint(this.buffer, now - this.last);
+        this.last = now;
+    }
+
+    /**
+     * Flush the journal to the storage device and cut the file to its length.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.channel.isOpen())
+            return;
+
+        final long length = this.length();
+        this.buffer.force();
+        this.buffer = null;
+        try {
+            this.channel.truncate(length);
+        } catch (IOException ioe) {
+            // Some platforms refuse to truncate a mapped file, the zeros left
+            // behind read as the end marker.
+        }
+        this.channel.close();
+    }
+
+    /**
+     * Append {@code value} as an unsigned LEB128 varint.
+     *
+     * @param buffer is the buffer to write to.
+     * @param value  is treated as unsigned.
+     */
+    private static void putVarint(MappedByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) (value | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Sequential reader of a journal written by {@link Journal}.<br>
+     * {@link #next()} moves to each record in turn, and the accessors describe the
+     * current record.
+     */
+    public static final class Reader implements Closeable {
+        /**
+         * The file being read.
+         */
+        private final FileChannel channel;
+
+        /**
+         * The whole file, mapped read only.
+         */
+        private final MappedByteBuffer buffer;
+
+        /**
+         * The arguments of the current record.
+         */
+        private final long[] args = new long[4];
+
+        /**
+         * The type of the current record, or {@code 0}.
+         */
+        private int type;
+
+        /**
+         * The nanoseconds from the opening of the journal to the current record.
+         */
+        private long time;
+
+        /**
+         * Open the journal at {@code path}.
+         *
+         * @param path is the file to read.
+         *
+         * @throws IOException if the file cannot be read or is not a journal.
+         */
+        public Reader(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.channel.size());
+
+            if (this.buffer.remaining() < 4 || this.buffer.getInt() != MAGIC) {
+                this.channel.close();
+                throw new IOException("Not a journal: " + path);
+            }
+        }
+
+        /**
+         * Determine argument {@code i} of the current record.
+         *
+         * @param i is {@code 0} for the cell of {@link #REVEAL}, {@link #FLAG} and
+         *          {@link #UNFLAG}, or {@code 0} to {@code 3} for the rows,
+         *          columns, bombs and seed of {@link #RESET} and
+         *          {@link #RESTORE}.
+         *
+         * @return the argument.
+         */
+        public long arg(int i) {
+            return this.args[i];
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.channel.close();
+        }
+
+        /**
+         * Move to the next record.
+         *
+         * @return {@code false} once the end of the journal is reached.
+         *
+         * @throws IOException if a record is cut short or has an unknown type.
+         */
+        public boolean next() throws IOException {
+            if (!this.buffer.hasRemaining() || (this.type = this.buffer.get()) == 0) {
+                this.type = 0;
+                return false;
+            }
+
+            try {
+                this.time += getVarint(this.buffer);
+
+                switch (this.type) {
+                    case REVEAL:
+                    case FLAG:
+                    case UNFLAG:
+                        this.args[0] = getVarint(this.buffer);
+                        return true;
+                    case RESET:
+                    case RESTORE:
+                        for (int i = 0; i < 4; ++i)
+                            this.args[i] = getVarint(this.buffer);
+                        return true;
+                    default:
+                        throw new IOException("Unknown record type: " + this.type);
+                }
+            } catch (BufferUnderflowException bue) {
+                throw new IOException("Truncated record", bue);
+            }
+        }
+
+        /**
+         * Determine the time of the current record.
+         *
+         * @return the nanoseconds since the journal was opened.
+         */
+        public long time() {
+            return this.time;
+        }
+
+        /**
+         * Determine the type of the current record.
+         *
+         * @return {@link #REVEAL}, {@link #FLAG}, {@link #UNFLAG}, {@link #RESET} or
+         *         {@link #RESTORE}.
+         */
+        public int type() {
+            return this.type;
+        }
+
+        /**
+         * Read an unsigned LEB128 varint.
+         *
+         * @param buffer is the buffer to read from.
+         *
+         * @return the value.
+         *
+         * @throws IOException if the varint is longer than ten bytes.
+         */
+        private static long getVarint(MappedByteBuffer buffer) throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                final byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0)
+                    return value;
+            }
+            throw new IOException("Malformed varint");
+        }
+    }
+}
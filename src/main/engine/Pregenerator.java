@@ -0,0 +1,149 @@
+package main.engine;
+
+import java.io.Closeable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Background producer of ready-made games for one board size.<br>
+ * A daemon thread keeps up to {@code capacity} spare {@link Engine}s reset and
+ * waiting in a bounded queue. {@link #reset(Engine)} swaps the planes of a
+ * waiting engine into the caller's in O(1) and hands the spare back to be reset
+ * again, so starting a game never places bombs on the calling thread unless the
+ * queue has run dry.<br>
+ * Spares are as large as the board, so {@link #capacity(int, int, int)} keeps
+ * fewer of them, or none, for large boards. They are created silent, so the
+ * records of the live game are not interleaved with those of games prepared
+ * for later.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Pregenerator implements Closeable {
+    /**
+     * The spare {@link Engine}s take at most the maximum heap divided by this.
+     */
+    private static final int HEAP_SHARE = 8;
+
+    /**
+     * The number of rows.
+     */
+    public final int rowMax;
+
+    /**
+     * The number of columns.
+     */
+    public final int colMax;
+
+    /**
+     * The number of bombs.
+     */
+    public final int numBombs;
+
+    /**
+     * Spare {@link Engine}s holding a fresh game.
+     */
+    private final BlockingQueue<Engine> ready;
+
+    /**
+     * Spare {@link Engine}s holding a used game, waiting to be reset.
+     */
+    private final BlockingQueue<Engine> spent;
+
+    /**
+     * Background thread resetting {@link #spent} into {@link #ready}.
+     */
+    private final Thread producer;
+
+    /**
+     * Create a {@code Pregenerator} of games the size of {@code engine}.
+     *
+     * @param engine   is an {@link Engine} of the size to prepare.
+     * @param capacity is the number of games kept ready.
+     *
+     * @throws IllegalArgumentException if {@code capacity} is less than 1.
+     */
+    public Pregenerator(Engine engine, int capacity) throws IllegalArgumentException {
+        this.rowMax = engine.rowMax;
+        this.colMax = engine.colMax;
+        this.numBombs = engine.numBombs;
+        this.ready = new ArrayBlockingQueue<>(capacity);
+        this.spent = new ArrayBlockingQueue<>(capacity);
+
+        this.producer = new Thread(() -> this.produce(capacity), "Pregenerator");
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    /**
+     * Determine how many games of a size to keep ready: at most {@code max}, and
+     * no more than fit in 1/{@value #HEAP_SHARE} of the maximum heap.
+     *
+     * @param rowMax is the number of rows.
+     * @param colMax is the number of columns.
+     * @param max    is the most games to keep ready.
+     *
+     * @return the capacity to create a {@code Pregenerator} with, or {@code 0} if
+     *         even one spare is too large to keep.
+     */
+    public static int capacity(int rowMax, int colMax, int max) {
+        final long size = (rowMax + 2L) * (colMax + 2L);
+        // Three bit planes and a nibble of count per cell, guard cells included.
+        final long bytes = size * 3 / 8 + size / 2 + 1;
+        return (int) Math.max(Math.min(max, Runtime.getRuntime().maxMemory() / HEAP_SHARE / bytes), 0);
+    }
+
+    /**
+     * Stop preparing games.
+     */
+    @Override
+    public void close() {
+        this.producer.interrupt();
+    }
+
+    /**
+     * Create {@code capacity} spare {@link Engine}s, then reset every spare that
+     * comes back until interrupted.
+     *
+     * @param capacity is the number of spare {@link Engine}s.
+     */
+    private void produce(int capacity) {
+        try {
+            for (int i = 0; i < capacity; ++i)
+                this.ready.put(new Engine(this.rowMax, this.colMax, this.numBombs, null, false));
+
+            while (!Thread.currentThread().isInterrupted()) {
+                final Engine spare = this.spent.take();
+                spare.reset();
+                this.ready.put(spare);
+            }
+        } catch (InterruptedException ie) {
+            return;
+        }
+    }
+
+    /**
+     * Start a new game on {@code engine}, with a prepared game if one is ready.
+     *
+     * @param engine is the {@link Engine} of the size of this.
+     *
+     * @return {@code true} if a prepared game was used, {@code false} if the game
+     *         was generated on the calling thread.
+     *
+     * @throws IllegalArgumentException if {@code engine} is not the size of this.
+     */
+    public boolean reset(Engine engine) throws IllegalArgumentException {
+        if (engine.rowMax != this.rowMax || engine.colMax != this.colMax || engine.numBombs != this.numBombs)
+            throw new IllegalArgumentException("Engine is not the size of the prepared games");
+
+        final Engine spare = this.ready.poll();
+        if (spare == null) {
+            engine.reset();
+            return false;
+        }
+
+        engine.swap(spare);
+        this.spent.offer(spare);
+        return true;
+    }
+}
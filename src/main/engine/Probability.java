@@ -0,0 +1,661 @@
+package main.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exact chance of a bomb under every cell of a game, given only what the player
+ * can see.<br>
+ * Every revealed number with hidden neighbours is a constraint, and flags are
+ * taken to be bombs unless they surround a number with more flags than it
+ * counts, in which case they are treated as hidden cells. Hidden cells next to
+ * a constraint form the frontier, which is split into components that share no
+ * constraint. Each component is enumerated one cell at a time in breadth first
+ * order, merging partial layouts that leave the same bombs to place around the
+ * constraints still open, so its cost follows the width of the frontier rather
+ * than the number of layouts. The components are then combined, each weighted
+ * by the binomial number of ways to place the remaining bombs in the
+ * unconstrained interior, computed in log scale so the weights fit in a
+ * {@code double} on any board.<br>
+ * The state is captured by the constructor, so {@link #compute()} may run on
+ * any thread while the game goes on.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Probability {
+    /**
+     * The number of rows.
+     */
+    public final int rowMax;
+
+    /**
+     * The number of columns.
+     */
+    public final int colMax;
+
+    /**
+     * The number of bombs not under a trusted flag, negative if there are more
+     * trusted flags than bombs.
+     */
+    private final int bombs;
+
+    /**
+     * {@code row * colMax + col} of every hidden cell not under a trusted flag.
+     */
+    private final int[] unknown;
+
+    /**
+     * {@code row * colMax + col} of every trusted flag.
+     */
+    private final int[] flags;
+
+    /**
+     * {@code row * colMax + col} of every flag that contradicts a revealed
+     * number, in increasing order. They are among {@link #unknown}.
+     */
+    private final int[] ignored;
+
+    /**
+     * The hidden, unflagged neighbours of every constraint.
+     */
+    private final int[][] constraints;
+
+    /**
+     * The number of bombs among {@link #constraints}.
+     */
+    private final int[] values;
+
+    /**
+     * Capture the visible state of {@code engine}.<br>
+     * Every flag around a revealed number with more flagged neighbours than its
+     * count is wrong or unproven, so it is ignored.
+     *
+     * @param engine is the {@link Engine} of the game.
+     */
+    public Probability(Engine engine) {
+        this.rowMax = engine.rowMax;
+        this.colMax = engine.colMax;
+
+        final int width = engine.getWidth(), last = engine.rowMax * width + engine.colMax;
+        final int[] offsets = engine.getOffsets();
+        final BitSet ignored = new BitSet();
+        for (int index = width + 1; index <= last; ++index) {
+            if (!engine.isRevealedAt(index) || index % width == 0 || index % width > engine.colMax)
+                continue;
+            int flagged = 0;
+            for (int offset : offsets)
+                if (engine.isFlaggedAt(index + offset))
+                    ++flagged;
+            if (flagged > engine.count(index))
+                for (int offset : offsets)
+                    if (engine.isFlaggedAt(index + offset))
+                        ignored.set(index + offset);
+        }
+
+        int[] unknown = new int[64], flags = new int[16];
+        int numUnknown = 0, numFlags = 0;
+        final List<int[]> constraints = new ArrayList<>();
+        final List<Integer> values = new ArrayList<>();
+        final int[] cells = new int[8];
+
+        for (int index = width + 1; index <= last; ++index) {
+            final int col = index % width;
+            if (col == 0 || col > engine.colMax)
+                continue;
+
+            if (engine.isFlaggedAt(index) && !ignored.get(index)) {
+                if (numFlags == flags.length)
+                    flags = Arrays.copyOf(flags, numFlags << 1);
+                flags[numFlags++] = engine.toCell(index);
+            } else if (!engine.isRevealedAt(index)) {
+                if (numUnknown == unknown.length)
+                    unknown = Arrays.copyOf(unknown, numUnknown << 1);
+                unknown[numUnknown++] = engine.toCell(index);
+            } else if (engine.count(index) != 0) {
+                int hidden = 0, value = engine.count(index);
+                for (int offset : offsets) {
+                    final int next = index + offset;
+                    if (engine.isFlaggedAt(next) && !ignored.get(next))
+                        --value;
+                    else if (!engine.isRevealedAt(next))
+                        cells[hidden++] = engine.toCell(next);
+                }
+                if (hidden != 0) {
+                    constraints.add(Arrays.copyOf(cells, hidden));
+                    values.add(value);
+                }
+            }
+        }
+
+        this.unknown = Arrays.copyOf(unknown, numUnknown);
+        this.flags = Arrays.copyOf(flags, numFlags);
+        this.ignored = ignored.stream().map(engine::toCell).toArray();
+        this.bombs = engine.numBombs - numFlags;
+        this.constraints = constraints.toArray(new int[0][]);
+        this.values = values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Determine the chance of a bomb under every cell.
+     *
+     * @return the chance of a bomb under {@code row * colMax + col}: {@code 0} for
+     *         revealed cells and {@code 1} for trusted flags.
+     *
+     * @throws IllegalStateException if no layout fits the revealed numbers and
+     *                               flags, or if more flags are trusted than there
+     *                               are bombs.
+     */
+    public double[] compute() throws IllegalStateException {
+        if (this.bombs < 0)
+            throw new IllegalStateException("More flags than bombs");
+        final double[] chance = new double[this.rowMax * this.colMax];
+        for (int cell : this.flags)
+            chance[cell] = 1;
+
+        // Number the frontier cells and join the cells of every constraint.
+        final int[] frontier = new int[chance.length];
+        Arrays.fill(frontier, -1);
+        int numFrontier = 0;
+        for (int[] constraint : this.constraints)
+            for (int cell : constraint)
+                if (frontier[cell] < 0)
+                    frontier[cell] = numFrontier++;
+
+        final int[] parent = new int[numFrontier];
+        for (int i = 0; i < numFrontier; ++i)
+            parent[i] = i;
+        for (int[] constraint : this.constraints)
+            for (int i = 1; i < constraint.length; ++i)
+                parent[find(parent, frontier[constraint[i]])] = find(parent, frontier[constraint[0]]);
+
+        final Map<Integer, List<Integer>> groups = new HashMap<>();
+        for (int q = 0; q < this.constraints.length; ++q)
+            groups.computeIfAbsent(find(parent, frontier[this.constraints[q][0]]), k -> new ArrayList<>()).add(q);
+
+        final List<int[]> orders = new ArrayList<>();
+        final List<double[][]> results = new ArrayList<>();
+        for (List<Integer> group : groups.values()) {
+            final int[] qs = group.stream().mapToInt(Integer::intValue).toArray();
+            final int[] order = this.order(qs);
+            orders.add(order);
+            results.add(this.enumerate(order, qs));
+        }
+
+        // Weight every number of bombs left for the interior.
+        final int interior = this.unknown.length - numFrontier;
+        int total = 0;
+        for (double[][] result : results)
+            total += result[0].length - 1;
+        total = Math.min(total, this.bombs);
+
+        final double[] logFactorial = new double[interior + 1];
+        for (int i = 2; i <= interior; ++i)
+            logFactorial[i] = logFactorial[i - 1] + Math.log(i);
+        final double[] weight = new double[total + 1];
+        double max = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s <= total; ++s) {
+            final int rest = this.bombs - s;
+            weight[s] = rest < 0 || rest > interior ? Double.NEGATIVE_INFINITY
+                    : logFactorial[interior] - logFactorial[rest] - logFactorial[interior - rest];
+            max = Math.max(max, weight[s]);
+        }
+        if (max == Double.NEGATIVE_INFINITY)
+            throw new IllegalStateException("No layout fits the revealed cells");
+        for (int s = 0; s <= total; ++s)
+            weight[s] = Math.exp(weight[s] - max);
+
+        // tail[c][j] weighs components c and later when j bombs are placed before.
+        final int m = results.size();
+        final double[][] tail = new double[m + 1][];
+        tail[m] = weight;
+        for (int c = m - 1; c >= 0; --c) {
+            final double[] ways = results.get(c)[0], next = tail[c + 1], g = new double[total + 1];
+            for (int j = 0; j <= total; ++j)
+                for (int k = 0; k < ways.length && j + k <= total; ++k)
+                    g[j] += ways[k] * next[j + k];
+            tail[c] = normalise(g);
+        }
+
+        double[] head = { 1 };
+        for (int c = 0; c < m; ++c) {
+            final double[] ways = results.get(c)[0], next = tail[c + 1];
+            final double[] rest = new double[ways.length];
+            for (int k = 0; k < ways.length; ++k)
+                for (int a = 0; a < head.length && a + k <= total; ++a)
+                    rest[k] += head[a] * next[a + k];
+
+            double sum = 0;
+            for (int k = 0; k < ways.length; ++k)
+                sum += ways[k] * rest[k];
+            if (sum == 0)
+                throw new IllegalStateException("No layout fits the revealed cells");
+
+            final int[] order = orders.get(c);
+            for (int i = 0; i < order.length; ++i) {
+                final double[] given = results.get(c)[i + 1];
+                double mine = 0;
+                for (int k = 0; k < ways.length; ++k)
+                    mine += ways[k] * rest[k] * given[k];
+                chance[order[i]] = mine / sum;
+            }
+            head = normalise(convolve(head, ways, total));
+        }
+
+        if (interior != 0) {
+            double sum = 0, expected = 0;
+            for (int s = 0; s < head.length; ++s) {
+                sum += head[s] * weight[s];
+                expected += head[s] * weight[s] * (this.bombs - s);
+            }
+            final double each = expected / sum / interior;
+            for (int cell : this.unknown)
+                if (frontier[cell] < 0)
+                    chance[cell] = each;
+        }
+        return chance;
+    }
+
+    /**
+     * Find the hidden, unflagged cell least likely to hold a bomb.
+     *
+     * @return {@code row * colMax + col} of the cell, or {@code -1} if every cell
+     *         is revealed or flagged.
+     *
+     * @throws IllegalStateException if no layout fits the revealed numbers and
+     *                               flags, or if more flags are trusted than there
+     *                               are bombs.
+     */
+    public int safest() throws IllegalStateException {
+        final double[] chance = this.compute();
+        int best = -1;
+        for (int cell : this.unknown)
+            if (Arrays.binarySearch(this.ignored, cell) < 0 && (best < 0 || chance[cell] < chance[best]))
+                best = cell;
+        return best;
+    }
+
+    /**
+     * Multiply two polynomials, dropping every term above {@code max}.
+     *
+     * @param a   is the first polynomial.
+     * @param b   is the second polynomial.
+     * @param max is the largest degree kept.
+     *
+     * @return the product.
+     */
+    private static double[] convolve(double[] a, double[] b, int max) {
+        final double[] product = new double[Math.min(a.length + b.length - 2, max) + 1];
+        for (int i = 0; i < a.length && i <= max; ++i)
+            for (int j = 0; j < b.length && i + j <= max; ++j)
+                product[i + j] += a[i] * b[j];
+        return product;
+    }
+
+    /**
+     * Count the layouts of one component of the frontier.
+     *
+     * @param order are the cells of the component in the order they are placed.
+     * @param qs    are the constraints of the component.
+     *
+     * @return the number of layouts with {@code k} bombs at {@code [0][k]}, scaled
+     *         so the largest is {@code 1}, and at {@code [i + 1][k]} the share of
+     *         those with a bomb on {@code order[i]}.
+     *
+     * @throws IllegalStateException if no layout fits the constraints.
+     */
+    private double[][] enumerate(int[] order, int[] qs) throws IllegalStateException {
+        final int n = order.length, limit = Math.min(n, this.bombs);
+        final Map<Integer, Integer> position = new HashMap<>();
+        for (int i = 0; i < n; ++i)
+            position.put(order[i], i);
+
+        // The constraints each cell opens and closes, and their positions.
+        final int[] first = new int[qs.length], last = new int[qs.length];
+        final int[][] positions = new int[qs.length][];
+        for (int j = 0; j < qs.length; ++j) {
+            final int[] constraint = this.constraints[qs[j]];
+            positions[j] = new int[constraint.length];
+            for (int i = 0; i < constraint.length; ++i)
+                positions[j][i] = position.get(constraint[i]);
+            first[j] = Arrays.stream(positions[j]).min().getAsInt();
+            last[j] = Arrays.stream(positions[j]).max().getAsInt();
+        }
+
+        final Layer[] layers = new Layer[n + 1];
+        layers[0] = new Layer(new int[0]);
+        for (int i = 0; i < n; ++i) {
+            final int[] open = layers[i].open;
+            final List<Integer> next = new ArrayList<>();
+            for (int j : open)
+                if (last[j] != i)
+                    next.add(j);
+            for (int j = 0; j < qs.length; ++j)
+                if (first[j] == i && last[j] != i)
+                    next.add(j);
+            layers[i + 1] = new Layer(next.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        // Walk forward over every reachable state, merging equal ones.
+        layers[0].add(new State(new long[0]));
+        layers[0].forward.add(new double[] { 1 });
+        for (int i = 0; i < n; ++i) {
+            final Layer layer = layers[i], following = layers[i + 1];
+            final int cell = i;
+            final int[] from = new int[following.open.length], after = new int[following.open.length];
+            final boolean[] touch = new boolean[following.open.length];
+            for (int s = 0; s < following.open.length; ++s) {
+                final int j = following.open[s];
+                from[s] = indexOf(layer.open, j);
+                touch[s] = Arrays.stream(positions[j]).anyMatch(p -> p == cell);
+                after[s] = (int) Arrays.stream(positions[j]).filter(p -> p > cell).count();
+            }
+            final List<Integer> closing = new ArrayList<>();
+            for (int j = 0; j < qs.length; ++j)
+                if (last[j] == i)
+                    closing.add(j);
+            final int[] closed = new int[closing.size()], at = new int[closing.size()];
+            for (int t = 0; t < closed.length; ++t) {
+                closed[t] = this.values[qs[closing.get(t)]];
+                at[t] = indexOf(layer.open, closing.get(t));
+            }
+
+            final int[] remaining = new int[layer.open.length];
+            for (int s = 0; s < layer.states.size(); ++s) {
+                layer.states.get(s).decode(remaining);
+                for (int bomb = 0; bomb <= 1; ++bomb) {
+                    boolean fits = true;
+                    for (int t = 0; fits && t < closed.length; ++t)
+                        fits = (at[t] < 0 ? closed[t] : remaining[at[t]]) == bomb;
+
+                    final long[] words = new long[(following.open.length + 15) >>> 4];
+                    for (int t = 0; fits && t < following.open.length; ++t) {
+                        final int r = (from[t] < 0 ? this.values[qs[following.open[t]]] : remaining[from[t]])
+                                - (touch[t] ? bomb : 0);
+                        fits = r >= 0 && r <= after[t];
+                        words[t >>> 4] |= (long) Math.max(r, 0) << ((t & 15) << 2);
+                    }
+                    if (!fits) {
+                        layer.links.get(bomb).add(-1);
+                        continue;
+                    }
+
+                    final int target = following.add(new State(words));
+                    if (target == following.forward.size())
+                        following.forward.add(new double[Math.min(i + 1, limit) + 1]);
+                    layer.links.get(bomb).add(target);
+                    final double[] source = layer.forward.get(s), sink = following.forward.get(target);
+                    for (int k = 0; k < source.length && k + bomb < sink.length; ++k)
+                        sink[k + bomb] += source[k];
+                }
+            }
+            final double scale = max(following.forward);
+            if (scale != 0)
+                for (double[] forward : following.forward)
+                    for (int k = 0; k < forward.length; ++k)
+                        forward[k] /= scale;
+        }
+        if (layers[n].states.isEmpty())
+            throw new IllegalStateException("No layout fits the revealed cells");
+
+        // Walk back, counting the ways to finish from every state.
+        layers[n].backward.add(new double[] { 1 });
+        for (int i = n - 1; i >= 0; --i) {
+            final Layer layer = layers[i], following = layers[i + 1];
+            for (int s = 0; s < layer.states.size(); ++s) {
+                final double[] sum = new double[Math.min(n - i, limit) + 1];
+                for (int bomb = 0; bomb <= 1; ++bomb) {
+                    final int target = layer.links.get(bomb).get(s);
+                    if (target < 0)
+                        continue;
+                    final double[] rest = following.backward.get(target);
+                    for (int k = 0; k < rest.length && k + bomb < sum.length; ++k)
+                        sum[k + bomb] += rest[k];
+                }
+                layer.backward.add(sum);
+            }
+            final double scale = max(layer.backward);
+            if (scale != 0)
+                for (double[] backward : layer.backward)
+                    for (int k = 0; k < backward.length; ++k)
+                        backward[k] /= scale;
+        }
+
+        // Join both walks around every cell.
+        final double[][] result = new double[n + 1][];
+        for (int i = 0; i < n; ++i) {
+            final Layer layer = layers[i], following = layers[i + 1];
+            final double[] all = new double[limit + 1], mine = new double[limit + 1];
+            for (int s = 0; s < layer.states.size(); ++s) {
+                for (int bomb = 0; bomb <= 1; ++bomb) {
+                    final int target = layer.links.get(bomb).get(s);
+                    if (target < 0)
+                        continue;
+                    final double[] before = layer.forward.get(s), rest = following.backward.get(target);
+                    for (int a = 0; a < before.length; ++a) {
+                        if (before[a] == 0)
+                            continue;
+                        for (int b = 0; b < rest.length && a + b + bomb <= limit; ++b) {
+                            final double ways = before[a] * rest[b];
+                            all[a + b + bomb] += ways;
+                            if (bomb == 1)
+                                mine[a + b + bomb] += ways;
+                        }
+                    }
+                }
+            }
+            if (i == 0)
+                result[0] = normalise(all.clone());
+            for (int k = 0; k <= limit; ++k)
+                mine[k] = all[k] == 0 ? 0 : mine[k] / all[k];
+            result[i + 1] = mine;
+        }
+        return result;
+    }
+
+    /**
+     * Find the representative of {@code i}, halving the path on the way.
+     *
+     * @param parent is the union find forest.
+     * @param i      is an element.
+     *
+     * @return the root of the tree of {@code i}.
+     */
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i)
+            i = parent[i] = parent[parent[i]];
+        return i;
+    }
+
+    /**
+     * Determine the position of {@code value} in {@code array}.
+     *
+     * @param array is the array to search.
+     * @param value is the value to find.
+     *
+     * @return the first index of {@code value}, or {@code -1}.
+     */
+    private static int indexOf(int[] array, int value) {
+        for (int i = 0; i < array.length; ++i)
+            if (array[i] == value)
+                return i;
+        return -1;
+    }
+
+    /**
+     * Determine the largest entry of {@code arrays}.
+     *
+     * @param arrays are the arrays to search.
+     *
+     * @return the largest entry, or {@code 0} if all are empty.
+     */
+    private static double max(List<double[]> arrays) {
+        double max = 0;
+        for (double[] array : arrays)
+            for (double value : array)
+                max = Math.max(max, value);
+        return max;
+    }
+
+    /**
+     * Scale {@code array} so its largest entry is {@code 1}, unless all are
+     * {@code 0}.
+     *
+     * @param array is the array to scale in place.
+     *
+     * @return {@code array}
+     */
+    private static double[] normalise(double[] array) {
+        final double max = Arrays.stream(array).max().orElse(0);
+        if (max != 0)
+            for (int i = 0; i < array.length; ++i)
+                array[i] /= max;
+        return array;
+    }
+
+    /**
+     * Order the cells of a component breadth first from one end, so that few
+     * constraints are open at once.<br>
+     * The search is run twice, the second time from the cell reached last by the
+     * first.
+     *
+     * @param qs are the constraints of the component.
+     *
+     * @return the cells of the component.
+     */
+    private int[] order(int[] qs) {
+        final Map<Integer, List<Integer>> touching = new HashMap<>();
+        for (int q : qs)
+            for (int cell : this.constraints[q])
+                touching.computeIfAbsent(cell, k -> new ArrayList<>()).add(q);
+
+        int start = this.constraints[qs[0]][0];
+        int[] order = null;
+        for (int pass = 0; pass < 2; ++pass) {
+            order = new int[touching.size()];
+            final Map<Integer, Boolean> seen = new HashMap<>();
+            int head = 0, tail = 0;
+            order[tail++] = start;
+            seen.put(start, true);
+            while (head < tail) {
+                for (int q : touching.get(order[head++]))
+                    for (int cell : this.constraints[q])
+                        if (seen.putIfAbsent(cell, true) == null)
+                            order[tail++] = cell;
+            }
+            start = order[tail - 1];
+        }
+        return order;
+    }
+
+    /**
+     * The bombs left to place around every open constraint after some cells of a
+     * component, packed four bits per constraint.
+     */
+    private static final class State {
+        /**
+         * The packed counts.
+         */
+        private final long[] words;
+
+        /**
+         * {@link Arrays#hashCode(long[])} of {@link #words}.
+         */
+        private final int hash;
+
+        /**
+         * Create a {@code State} of packed counts.
+         *
+         * @param words are the packed counts.
+         */
+        State(long[] words) {
+            this.words = words;
+            this.hash = Arrays.hashCode(words);
+        }
+
+        /**
+         * Unpack the counts into {@code remaining}.
+         *
+         * @param remaining receives one count per open constraint.
+         */
+        void decode(int[] remaining) {
+            for (int t = 0; t < remaining.length; ++t)
+                remaining[t] = (int) (this.words[t >>> 4] >>> ((t & 15) << 2)) & 0xF;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof State && Arrays.equals(this.words, ((State) o).words);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * Every distinct {@link State} before one cell of a component, with the
+     * ways to reach and to finish from each.
+     */
+    private static final class Layer {
+        /**
+         * The constraints open at this layer, in the order they are packed.
+         */
+        final int[] open;
+
+        /**
+         * The distinct states.
+         */
+        final List<State> states = new ArrayList<>();
+
+        /**
+         * The position of every state in {@link #states}.
+         */
+        final Map<State, Integer> index = new HashMap<>();
+
+        /**
+         * The ways to reach every state with {@code k} bombs, scaled.
+         */
+        final List<double[]> forward = new ArrayList<>();
+
+        /**
+         * The ways to finish from every state with {@code k} bombs, scaled.
+         */
+        final List<double[]> backward = new ArrayList<>();
+
+        /**
+         * The state of the next layer reached from every state without and with a
+         * bomb on the cell, or {@code -1}.
+         */
+        final List<List<Integer>> links = List.of(new ArrayList<>(), new ArrayList<>());
+
+        /**
+         * Create an empty {@code Layer}.
+         *
+         * @param open are the constraints open at this layer.
+         */
+        Layer(int[] open) {
+            this.open = open;
+        }
+
+        /**
+         * Add {@code state} unless already present.
+         *
+         * @param state is the state to add.
+         *
+         * @return the position of {@code state} in {@link #states}.
+         */
+        int add(State state) {
+            final Integer at = this.index.putIfAbsent(state, this.states.size());
+            if (at != null)
+                return at;
+            this.states.add(state);
+            return this.states.size() - 1;
+        }
+    }
+}
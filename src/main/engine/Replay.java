@@ -0,0 +1,220 @@
+package main.engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A recorded game that can be played again on any {@link Engine} of the same
+ * size.<br>
+ * A game is its size, its seed and its moves. Because the seed and the first
+ * revealed cell determine the layout, re-executing the moves after
+ * {@link Engine#reset(long)} reproduces the game exactly.
+ * {@link #play(Engine)} runs every move back to back, while
+ * {@link #apply(Engine, int)} and {@link #time(int)} let a caller pace the
+ * moves itself, for example in real time on a timer.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Replay {
+    /**
+     * The number of rows.
+     */
+    public final int rowMax;
+
+    /**
+     * The number of columns.
+     */
+    public final int colMax;
+
+    /**
+     * The number of bombs.
+     */
+    public final int numBombs;
+
+    /**
+     * The seed of the game.
+     */
+    public final long seed;
+
+    /**
+     * The {@link Journal} type of every move.
+     */
+    private byte[] types = new byte[16];
+
+    /**
+     * The {@code row * colMax + col} of every move.
+     */
+    private int[] cells = new int[16];
+
+    /**
+     * The nanoseconds from the start of the game to every move.
+     */
+    private long[] times = new long[16];
+
+    /**
+     * The number of moves.
+     */
+    private int size;
+
+    /**
+     * Create an empty {@code Replay} of a game.
+     *
+     * @param rowMax   is the number of rows.
+     * @param colMax   is the number of columns.
+     * @param numBombs is the number of bombs.
+     * @param seed     is the seed of the game.
+     */
+    public Replay(int rowMax, int colMax, int numBombs, long seed) {
+        this.rowMax = rowMax;
+        this.colMax = colMax;
+        this.numBombs = numBombs;
+        this.seed = seed;
+    }
+
+    /**
+     * Append a move.
+     *
+     * @param type is {@link Journal#REVEAL}, {@link Journal#FLAG} or
+     *             {@link Journal#UNFLAG}.
+     * @param cell is {@code row * colMax + col} of the cell.
+     * @param time is the nanoseconds from the start of the game to the move.
+     *
+     * @throws IllegalArgumentException if {@code type} is not a move or
+     *                                  {@code cell} is not on the board.
+     */
+    public void add(int type, int cell, long time) throws IllegalArgumentException {
+        if (type != Journal.REVEAL && type != Journal.FLAG && type != Journal.UNFLAG)
+            throw new IllegalArgumentException("Illegal move type: " + type);
+        if (cell < 0 || cell >= this.rowMax * this.colMax)
+            throw new IllegalArgumentException("Illegal cell: " + cell);
+
+        if (this.size == this.types.length) {
+            this.types = Arrays.copyOf(this.types, this.size << 1);
+            this.cells = Arrays.copyOf(this.cells, this.size << 1);
+            this.times = Arrays.copyOf(this.times, this.size << 1);
+        }
+        this.types[this.size] = (byte) type;
+        this.cells[this.size] = cell;
+        this.times[this.size] = time;
+        ++this.size;
+    }
+
+    /**
+     * Execute move {@code move} on {@code engine}.
+     *
+     * @param engine is the {@link Engine} to play on.
+     * @param move   is in the range [0, {@link #size()}).
+     *
+     * @return {@code true} if anything changed.
+     */
+    public boolean apply(Engine engine, int move) {
+        final int row = this.cells[move] / this.colMax, col = this.cells[move] % this.colMax;
+
+        if (this.types[move] == Journal.REVEAL)
+            return engine.reveal(row, col);
+        // A flag move only toggles a cell that does not already hold its result.
+        if (engine.isFlagged(row, col) == (this.types[move] == Journal.FLAG))
+            return false;
+        return engine.toggleFlag(row, col);
+    }
+
+    /**
+     * Create an {@link Engine} of the size of this game and play every move on it.
+     *
+     * @return the {@link Engine} at the end of the game.
+     */
+    public Engine play() {
+        return this.play(new Engine(this.rowMax, this.colMax, this.numBombs));
+    }
+
+    /**
+     * Reset {@code engine} to the seed of this game and play every move on it, as
+     * fast as possible.
+     *
+     * @param engine is the {@link Engine} to play on.
+     *
+     * @return {@code engine} at the end of the game.
+     *
+     * @throws IllegalArgumentException if {@code engine} is not the size of this
+     *                                  game.
+     */
+    public Engine play(Engine engine) throws IllegalArgumentException {
+        this.start(engine);
+        for (int move = 0; move < this.size; ++move)
+            this.apply(engine, move);
+        return engine;
+    }
+
+    /**
+     * Read every game recorded in the {@link Journal} at {@code path}.<br>
+     * Moves before the first {@link Journal#RESET} are ignored. Games continued
+     * from a {@link Snapshot} are skipped, since their moves before the save are
+     * not in the journal and the seed alone would replay a different game.
+     *
+     * @param path is the journal to read.
+     *
+     * @return the games in the order they were played.
+     *
+     * @throws IOException if the journal cannot be read.
+     */
+    public static List<Replay> read(Path path) throws IOException {
+        final List<Replay> games = new ArrayList<>();
+
+        try (Journal.Reader reader = new Journal.Reader(path)) {
+            Replay game = null;
+            long start = 0;
+
+            while (reader.next()) {
+                if (reader.type() == Journal.RESET) {
+                    game = new Replay((int) reader.arg(0), (int) reader.arg(1), (int) reader.arg(2), reader.arg(3));
+                    start = reader.time();
+                    games.add(game);
+                } else if (reader.type() == Journal.RESTORE) {
+                    game = null;
+                } else if (game != null) {
+                    game.add(reader.type(), (int) reader.arg(0), reader.time() - start);
+                }
+            }
+        }
+        return games;
+    }
+
+    /**
+     * Determine the number of moves.
+     *
+     * @return {@link #size}
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Reset {@code engine} to the seed of this game.
+     *
+     * @param engine is the {@link Engine} to play on.
+     *
+     * @throws IllegalArgumentException if {@code engine} is not the size of this
+     *                                  game.
+     */
+    public void start(Engine engine) throws IllegalArgumentException {
+        if (engine.rowMax != this.rowMax || engine.colMax != this.colMax || engine.numBombs != this.numBombs)
+            throw new IllegalArgumentException(String.format("Replay of %d x %d with %d bombs on %d x %d with %d",
+                    this.rowMax, this.colMax, this.numBombs, engine.rowMax, engine.colMax, engine.numBombs));
+        engine.reset(this.seed);
+    }
+
+    /**
+     * Determine when move {@code move} was made.
+     *
+     * @param move is in the range [0, {@link #size()}).
+     *
+     * @return the nanoseconds from the start of the game to the move.
+     */
+    public long time(int move) {
+        return this.times[move];
+    }
+}
@@ -0,0 +1,184 @@
+package main.engine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Saved state of an {@link Engine} and the time spent on its game.<br>
+ * A snapshot is the four bytes {@code MSS1}, a {@code short} version, the
+ * number of rows, columns and bombs, the elapsed nanoseconds, then the state
+ * written by {@link Engine#save(ByteBuffer)}: the seed, the flags and counters,
+ * and the bomb, revealed and flagged bit planes as raw {@code long}s. The file
+ * is written and read through a memory mapping, so the planes move in bulk
+ * copies even on boards of millions of cells.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Snapshot {
+    /**
+     * The version written by {@link #write(Engine, long, Path)}.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * The first four bytes of every snapshot.
+     */
+    private static final int MAGIC = 'M' << 24 | 'S' << 16 | 'S' << 8 | '1';
+
+    /**
+     * The size of the header in bytes.
+     */
+    private static final int HEADER = 4 + 2 + 3 * 4 + 8;
+
+    /**
+     * The number of rows.
+     */
+    public final int rowMax;
+
+    /**
+     * The number of columns.
+     */
+    public final int colMax;
+
+    /**
+     * The number of bombs.
+     */
+    public final int numBombs;
+
+    /**
+     * The nanoseconds spent on the game when it was saved.
+     */
+    public final long elapsed;
+
+    /**
+     * The mapped state following the header.
+     */
+    private final ByteBuffer state;
+
+    /**
+     * Create a {@code Snapshot} from its header and mapped state.
+     *
+     * @param rowMax   is the number of rows.
+     * @param colMax   is the number of columns.
+     * @param numBombs is the number of bombs.
+     * @param elapsed  is the nanoseconds spent on the game.
+     * @param state    is the state of the {@link Engine}.
+     */
+    private Snapshot(int rowMax, int colMax, int numBombs, long elapsed, ByteBuffer state) {
+        this.rowMax = rowMax;
+        this.colMax = colMax;
+        this.numBombs = numBombs;
+        this.elapsed = elapsed;
+        this.state = state;
+    }
+
+    /**
+     * Map the snapshot at {@code path}.<br>
+     * Only the header is read; the planes are copied by {@link #restore()}.
+     *
+     * @param path is the file to read.
+     *
+     * @return the {@code Snapshot}.
+     *
+     * @throws IOException if the file cannot be read, is not a snapshot or has
+     *                     another version.
+     */
+    public static Snapshot read(Path path) throws IOException {
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC)
+                throw new IOException("Not a snapshot: " + path);
+            final short version = buffer.getShort();
+            if (version != VERSION)
+                throw new IOException("Unsupported snapshot version: " + version);
+
+            return new Snapshot(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.slice());
+        } catch (BufferUnderflowException bue) {
+            throw new IOException("Truncated snapshot: " + path, bue);
+        }
+    }
+
+    /**
+     * Create an {@link Engine} holding the saved game.
+     *
+     * @return the {@link Engine}.
+     *
+     * @throws IOException if the snapshot is truncated or holds an illegal board.
+     */
+    public Engine restore() throws IOException {
+        try {
+            return new Engine(this.rowMax, this.colMax, this.numBombs, this.state.duplicate());
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Illegal board in snapshot", e);
+        } catch (BufferUnderflowException bue) {
+            throw new IOException("Truncated snapshot", bue);
+        }
+    }
+
+    /**
+     * Replace the game of {@code engine} with the saved game.
+     *
+     * @param engine is an {@link Engine} of the size of the saved game.
+     *
+     * @throws IOException              if the snapshot is truncated.
+     * @throws IllegalArgumentException if {@code engine} is not the size of the
+     *                                  saved game.
+     */
+    public void restore(Engine engine) throws IOException, IllegalArgumentException {
+        if (engine.rowMax != this.rowMax || engine.colMax != this.colMax || engine.numBombs != this.numBombs)
+            throw new IllegalArgumentException(String.format("Snapshot of %d x %d with %d bombs on %d x %d with %d",
+                    this.rowMax, this.colMax, this.numBombs, engine.rowMax, engine.colMax, engine.numBombs));
+
+        try {
+            engine.restore(this.state.duplicate());
+        } catch (BufferUnderflowException bue) {
+            throw new IOException("Truncated snapshot", bue);
+        }
+    }
+
+    /**
+     * Save the game of {@code engine} to {@code path}, replacing any existing
+     * file.<br>
+     * The snapshot is written to a sibling file and then moved over
+     * {@code path}, so a crash while saving leaves the previous snapshot whole.
+     *
+     * @param engine  is the {@link Engine} to save.
+     * @param elapsed is the nanoseconds spent on the game.
+     * @param path    is the file to write.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Engine engine, long elapsed, Path path) throws IOException {
+        final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER + engine.stateSize());
+
+            buffer.putInt(MAGIC);
+            buffer.putShort(VERSION);
+            buffer.putInt(engine.rowMax);
+            buffer.putInt(engine.colMax);
+            buffer.putInt(engine.numBombs);
+            buffer.putLong(elapsed);
+            engine.save(buffer);
+            buffer.force();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
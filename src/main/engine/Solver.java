@@ -0,0 +1,361 @@
+package main.engine;
+
+import java.util.Arrays;
+
+/**
+ * Incremental logical solver playing an {@link Engine} without guessing.<br>
+ * Every revealed number with hidden neighbours is a constraint: its hidden
+ * neighbours hold exactly its count minus its flagged neighbours. A constraint
+ * whose remaining count is zero reveals all of its hidden neighbours, and one
+ * whose remaining count equals its hidden neighbours flags them all. For two
+ * overlapping constraints A and B, if A has exactly as many more bombs left
+ * than B as it has cells outside B, then those cells are bombs and the cells of
+ * B outside A are safe.<br>
+ * The number of hidden and flagged neighbours of every cell is kept up to date
+ * from the changes the {@link Engine} records, and only the constraints around
+ * a change are examined again, so a move costs the same on any size of board.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Solver {
+    /**
+     * The {@link Engine} being solved.
+     */
+    public final Engine engine;
+
+    /**
+     * The number of columns of every array, including the guard ring.
+     */
+    private final int width;
+
+    /**
+     * The offsets of the eight cells surrounding a cell.
+     */
+    private final int[] offsets;
+
+    /**
+     * The number of hidden, unflagged neighbours of every cell.
+     */
+    private final byte[] hidden;
+
+    /**
+     * The number of flagged neighbours of every cell.
+     */
+    private final byte[] around;
+
+    /**
+     * One bit per cell, set if the cell is flagged, as of the last
+     * {@link #sync()}.
+     */
+    private final long[] flagged;
+
+    /**
+     * One bit per cell, set if the cell is in {@link #queue}.
+     */
+    private final long[] queued;
+
+    /**
+     * One bit per cell, set if the cell has been deduced.
+     */
+    private final long[] known;
+
+    /**
+     * Constraints to examine.
+     */
+    private int[] queue = new int[64];
+
+    /**
+     * The number of entries of {@link #queue}.
+     */
+    private int numQueued;
+
+    /**
+     * Deduced cells not yet played: the index of a safe cell, or
+     * {@code -index - 1} of a bomb.
+     */
+    private int[] pending = new int[64];
+
+    /**
+     * The number of entries of {@link #pending}.
+     */
+    private int numPending;
+
+    /**
+     * {@link Engine#getGeneration()} as of the last {@link #sync()}.
+     */
+    private int generation;
+
+    /**
+     * Create a {@code Solver} of {@code engine}.<br>
+     * {@code engine} records its changes from now on, and must only have one
+     * {@code Solver}.
+     *
+     * @param engine is the {@link Engine} to play.
+     */
+    public Solver(Engine engine) {
+        this.engine = engine;
+        this.width = engine.getWidth();
+        this.offsets = engine.getOffsets();
+
+        final int size = (engine.rowMax + 2) * this.width;
+        this.hidden = new byte[size];
+        this.around = new byte[size];
+        this.flagged = new long[(size + 63) >>> 6];
+        this.queued = new long[(size + 63) >>> 6];
+        this.known = new long[(size + 63) >>> 6];
+
+        engine.trackChanges();
+        this.generation = engine.getGeneration() - 1;
+    }
+
+    /**
+     * Queue {@code index} for examination if it is a constraint.
+     *
+     * @param index is the index of the cell, possibly of the guard ring.
+     */
+    private void enqueue(int index) {
+        if (!this.engine.isRevealedAt(index) || this.hidden[index] == 0 || this.engine.count(index) == 0)
+            return;
+        final int row = index / this.width, col = index % this.width;
+        if (row < 1 || row > this.engine.rowMax || col < 1 || col > this.engine.colMax)
+            return;
+        if ((this.queued[index >>> 6] & 1L << index) != 0)
+            return;
+
+        this.queued[index >>> 6] |= 1L << index;
+        if (this.numQueued == this.queue.length)
+            this.queue = Arrays.copyOf(this.queue, this.numQueued << 1);
+        this.queue[this.numQueued++] = index;
+    }
+
+    /**
+     * Examine the constraint at {@code index} and every overlapping constraint,
+     * adding what they prove to {@link #pending}.
+     *
+     * @param index is the index of a queued cell.
+     */
+    private void examine(int index) {
+        this.queued[index >>> 6] &= ~(1L << index);
+        if (this.hidden[index] == 0)
+            return;
+
+        final Engine engine = this.engine;
+        final long a = this.mask(index, index);
+        final int left = engine.count(index) - this.around[index];
+
+        if (left == 0) {
+            this.prove(a, index, false);
+            return;
+        }
+        if (left == Long.bitCount(a)) {
+            this.prove(a, index, true);
+            return;
+        }
+
+        final int width = this.width, row = index / width, col = index % width;
+        for (int r = Math.max(row - 2, 1); r <= Math.min(row + 2, engine.rowMax); ++r) {
+            for (int c = Math.max(col - 2, 1); c <= Math.min(col + 2, engine.colMax); ++c) {
+                final int other = r * width + c;
+                if (other == index || !engine.isRevealedAt(other) || this.hidden[other] == 0
+                        || engine.count(other) == 0)
+                    continue;
+
+                final long b = this.mask(other, index);
+                if ((a & b) == 0)
+                    continue;
+
+                final int leftB = engine.count(other) - this.around[other];
+                final long onlyA = a & ~b, onlyB = b & ~a;
+                if (left - leftB == Long.bitCount(onlyA)) {
+                    this.prove(onlyA, index, true);
+                    this.prove(onlyB, index, false);
+                } else if (leftB - left == Long.bitCount(onlyB)) {
+                    this.prove(onlyB, index, true);
+                    this.prove(onlyA, index, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find a cell proven safe, without playing it.
+     *
+     * @return {@code row * colMax + col} of the cell, or {@code -1} if no rule
+     *         applies.
+     */
+    public int hint() {
+        this.sync();
+
+        do {
+            for (int i = this.numPending - 1; i >= 0; --i) {
+                final int entry = this.pending[i];
+                if (entry >= 0 && !this.engine.isRevealedAt(entry))
+                    return this.engine.toCell(entry);
+            }
+            if (this.numQueued == 0)
+                return -1;
+            this.examine(this.queue[--this.numQueued]);
+        } while (true);
+    }
+
+    /**
+     * Determine the hidden, unflagged neighbours of {@code index} as a mask of the
+     * 7 x 7 window centred on {@code center}.
+     *
+     * @param index  is the index of the constraint.
+     * @param center is the index of the center of the window, at most two rows
+     *               and columns away.
+     *
+     * @return bit {@code (dr + 3) * 7 + dc + 3} is set for every hidden, unflagged
+     *         neighbour {@code dr} rows and {@code dc} columns from
+     *         {@code center}.
+     */
+    private long mask(int index, int center) {
+        final int width = this.width;
+        final int base = (index / width - center / width + 3) * 7 + index % width - center % width + 3;
+        long mask = 0;
+
+        for (int dr = -1; dr <= 1; ++dr) {
+            for (int dc = -1; dc <= 1; ++dc) {
+                final int next = index + dr * width + dc;
+                if ((dr | dc) != 0 && !this.engine.isRevealedAt(next)
+                        && (this.flagged[next >>> 6] & 1L << next) == 0)
+                    mask |= 1L << (base + dr * 7 + dc);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Add every cell of {@code mask} to {@link #pending}, unless already proven.
+     *
+     * @param mask   is a mask of the 7 x 7 window centred on {@code center}.
+     * @param center is the index of the center of the window.
+     * @param bomb   is {@code true} if the cells are bombs, {@code false} if they
+     *               are safe.
+     */
+    private void prove(long mask, int center, boolean bomb) {
+        for (; mask != 0; mask &= mask - 1) {
+            final int bit = Long.numberOfTrailingZeros(mask);
+            final int index = center + (bit / 7 - 3) * this.width + bit % 7 - 3;
+            if ((this.known[index >>> 6] & 1L << index) != 0)
+                continue;
+
+            this.known[index >>> 6] |= 1L << index;
+            if (this.numPending == this.pending.length)
+                this.pending = Arrays.copyOf(this.pending, this.numPending << 1);
+            this.pending[this.numPending++] = bomb ? -index - 1 : index;
+        }
+    }
+
+    /**
+     * Rebuild every count from {@link #engine} after a new game started.
+     */
+    private void rebuild() {
+        final Engine engine = this.engine;
+        final int size = this.hidden.length;
+
+        Arrays.fill(this.flagged, 0L);
+        Arrays.fill(this.queued, 0L);
+        Arrays.fill(this.known, 0L);
+        this.numQueued = this.numPending = 0;
+
+        for (int index = 0; index < size; ++index)
+            if (engine.isFlaggedAt(index))
+                this.flagged[index >>> 6] |= 1L << index;
+
+        final int last = engine.rowMax * this.width + engine.colMax;
+        for (int index = this.width + 1; index <= last; ++index) {
+            int hidden = 0, around = 0;
+            for (int offset : this.offsets) {
+                final int next = index + offset;
+                if ((this.flagged[next >>> 6] & 1L << next) != 0)
+                    ++around;
+                else if (!engine.isRevealedAt(next))
+                    ++hidden;
+            }
+            this.hidden[index] = (byte) hidden;
+            this.around[index] = (byte) around;
+        }
+
+        for (int index = this.width + 1; index <= last; ++index)
+            this.enqueue(index);
+
+        engine.clearChanges();
+        this.generation = engine.getGeneration();
+    }
+
+    /**
+     * Play one deduced move.
+     *
+     * @return {@code 1} if a cell was revealed or flagged, {@code 0} when stuck
+     *         or the game is over.
+     */
+    public int step() {
+        final Engine engine = this.engine;
+        this.sync();
+
+        while (!engine.getGameOver()) {
+            if (this.numPending > 0) {
+                final int entry = this.pending[--this.numPending];
+                if (entry >= 0 ? engine.revealAt(entry)
+                        : !engine.isFlaggedAt(-entry - 1) && engine.toggleFlagAt(-entry - 1))
+                    return 1;
+                continue;
+            }
+            if (this.numQueued == 0)
+                return 0;
+            this.examine(this.queue[--this.numQueued]);
+        }
+        return 0;
+    }
+
+    /**
+     * Play until the game is over or no rule applies.
+     *
+     * @return {@code true} if the game was won.
+     */
+    public boolean solve() {
+        while (this.step() != 0)
+            ;
+        return this.engine.isWon();
+    }
+
+    /**
+     * Apply every change recorded by {@link #engine} since the last call, queueing
+     * the constraints around each.
+     */
+    private void sync() {
+        final Engine engine = this.engine;
+        if (engine.getGeneration() != this.generation) {
+            this.rebuild();
+            return;
+        }
+
+        final int[] changes = engine.getChanges(), offsets = this.offsets;
+        for (int i = 0, n = engine.getNumChanges(); i < n; ++i) {
+            final int entry = changes[i];
+
+            if (entry >= 0) {
+                for (int offset : offsets)
+                    --this.hidden[entry + offset];
+                for (int offset : offsets)
+                    this.enqueue(entry + offset);
+                this.enqueue(entry);
+                continue;
+            }
+
+            final int index = -entry - 1;
+            this.flagged[index >>> 6] ^= 1L << index;
+            final int delta = (this.flagged[index >>> 6] & 1L << index) != 0 ? 1 : -1;
+            for (int offset : offsets) {
+                this.hidden[index + offset] -= delta;
+                this.around[index + offset] += delta;
+            }
+            for (int offset : offsets)
+                this.enqueue(index + offset);
+        }
+        engine.clearChanges();
+    }
+}
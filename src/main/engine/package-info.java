@@ -0,0 +1,8 @@
+/**
+ * Headless game logic. Nothing in this package touches AWT or Swing, so it can
+ * be driven by bots and simulations as well as by {@link main.board.Board}.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+package main.engine;
\ No newline at end of file
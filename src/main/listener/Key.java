@@ -10,7 +10,7 @@ import main.Minesweeper;
 import main.board.Panel;
 
 /**
- * {@link KeyListener} for each {@link main.board.Tile}
+ * {@link KeyListener} for the {@link main.board.BoardView} and menu
  */
 public class Key implements KeyListener {
 	/**
@@ -38,7 +38,7 @@ public class Key implements KeyListener {
 
 	@Override
 	public void keyTyped(KeyEvent e) {
-		Minesweeper.logger.info("Typed:\t" + e.getKeyChar());
+		Minesweeper.logger.info(() -> "Typed:\t" + e.getKeyChar());
 
 		switch (e.getKeyChar()) {
 			case KeyEvent.VK_ESCAPE:
@@ -55,6 +55,25 @@ public class Key implements KeyListener {
 					default:
 						return;
 				}
+			case '+':
+			case '=':
+				this.panel.view.setCellSize(this.panel.view.getCellSize() * 5 / 4);
+				return;
+			case '-':
+				this.panel.view.setCellSize(this.panel.view.getCellSize() * 4 / 5);
+				return;
+			case 'n':
+				this.panel.board.setNoGuess(!this.panel.board.isNoGuess());
+				JOptionPane.showMessageDialog(this.panel,
+						this.panel.board.isNoGuess() ? "No-guess games on" : "No-guess games off", "",
+						JOptionPane.PLAIN_MESSAGE, Minesweeper.icon);
+				return;
+			case 'h':
+				this.panel.board.setHints(!this.panel.board.isHints());
+				JOptionPane.showMessageDialog(this.panel,
+						this.panel.board.isHints() ? "Hints on" : "Hints off", "",
+						JOptionPane.PLAIN_MESSAGE, Minesweeper.icon);
+				return;
 			case 'q':
 				switch (JOptionPane.showConfirmDialog(this.panel, "Are you sure you want to quit?", "",
 						JOptionPane.YES_NO_OPTION, JOptionPane.PLAIN_MESSAGE, Minesweeper.icon)) {
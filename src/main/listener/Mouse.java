@@ -2,66 +2,72 @@ package main.listener;
 
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
 import java.util.Objects;
 
+import javax.swing.SwingUtilities;
+
 import main.Minesweeper;
 import main.board.Board;
+import main.board.BoardView;
 import main.board.Panel;
-import main.board.Tile;
 
 /**
- * {@link MouseListener} for {@link Tile}
+ * {@link MouseListener} and {@link MouseMotionListener} for {@link BoardView}<br>
+ * One instance serves the whole board, turning pointer coordinates into a cell,
+ * and shows the cell held down by the left button through
+ * {@link BoardView#setPressed(int)}.
  * 
  * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
  * @version 2022 06 03
  */
-public class Mouse implements MouseListener {
+public class Mouse implements MouseListener, MouseMotionListener {
 	/**
 	 * {@link Board} interacting with
 	 */
 	public final Board board;
 
 	/**
-	 * {@link Tile} interacting with
+	 * {@link BoardView} interacting with
 	 */
-	public final Tile tile;
+	public final BoardView view;
 
 	/**
 	 * Constructor
 	 * @param panel {@link Panel} this is interacting with
 	 * @param board {@link Board} this is interacting with
-	 * @param tile {@link Tile} this is interacting with
 	 */
-	public Mouse(Panel panel, Board board, Tile tile) {
+	public Mouse(Panel panel, Board board) {
 		this.board = Objects.requireNonNull(board, "Board cannot be null");
-		this.tile = Objects.requireNonNull(tile, "Tile cannot be null");
+		this.view = Objects.requireNonNull(panel, "Panel cannot be null").view;
 	}
 
 	@Override
 	public void mouseClicked(MouseEvent e) {
-		Minesweeper.logger.info("Mouse button:\t" + e.getButton());
+		Minesweeper.logger.info(() -> "Mouse button:\t" + e.getButton());
+
+		final int row = this.view.rowAt(e.getY()), col = this.view.colAt(e.getX());
+		if (row < 0 || col < 0)
+			return;
+
 		switch (e.getButton()) {
 			case MouseEvent.BUTTON1:
-				this.board.reveal(this.tile);
+				this.board.reveal(row, col);
 				return;
 			case MouseEvent.BUTTON3:
-				if (this.tile.isRevealed())
-					return;
-				if (this.board.getGameOver())
-					return;
-				if (this.tile.isFlagged()) {
-					this.board.incFlagCount();
-					this.tile.toggleFlagged();
-				} else {
-					this.board.decFlagCount();
-					this.tile.toggleFlagged();
-				}
+				this.board.flag(row, col);
 				return;
 			default:
 				return;
 		}
 	}
 
+	@Override
+	public void mouseDragged(MouseEvent e) {
+		if (SwingUtilities.isLeftMouseButton(e) && !this.board.getGameOver())
+			this.press(e);
+	}
+
 	@Override
 	public void mouseEntered(MouseEvent e) {
 		return;
@@ -72,21 +78,40 @@ public class Mouse implements MouseListener {
 		return;
 	}
 
+	@Override
+	public void mouseMoved(MouseEvent e) {
+		return;
+	}
+
 	@Override
 	public void mousePressed(MouseEvent e) {
 		if (this.board.getGameOver())
 			return;
 
-		this.tile.getModel().setPressed(true);
+		this.view.requestFocusInWindow();
 		Panel.menu.setIcon(Panel.menuClick);
+		if (SwingUtilities.isLeftMouseButton(e))
+			this.press(e);
 	}
 
 	@Override
 	public void mouseReleased(MouseEvent e) {
+		this.view.setPressed(-1);
 		if (this.board.getGameOver())
 			return;
 
-		this.tile.getModel().setPressed(false);
 		Panel.menu.setIcon(Panel.menuDefault);
 	}
+
+	/**
+	 * Show the hidden cell under {@code e} as held down.
+	 * @param e {@link MouseEvent} with the left button down
+	 */
+	private void press(MouseEvent e) {
+		final int row = this.view.rowAt(e.getY()), col = this.view.colAt(e.getX());
+		if (row < 0 || col < 0 || this.board.isRevealed(row, col))
+			this.view.setPressed(-1);
+		else
+			this.view.setPressed(row * this.board.colMax + col);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package main.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * {@link Handler} that hands records to a background writer.<br>
+ * {@link #publish(LogRecord)} only offers the record to a bounded ring buffer,
+ * so the caller never waits on formatting, disk or console. The writer drains
+ * up to {@link #BATCH} records at a time into every target and flushes them
+ * once per batch. When the buffer is full new records are dropped and counted,
+ * and the count is reported by the writer once it catches up.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public class AsyncHandler extends Handler {
+    /**
+     * The default number of records the buffer holds.
+     */
+    public static final int CAPACITY = 8192;
+
+    /**
+     * The most records written between two flushes.
+     */
+    public static final int BATCH = 512;
+
+    /**
+     * Records waiting for {@link #writer}.
+     */
+    private final BlockingQueue<LogRecord> queue;
+
+    /**
+     * {@link Handler}s the records are written to.
+     */
+    private final Handler[] targets;
+
+    /**
+     * Background thread writing {@link #queue} to {@link #targets}.
+     */
+    private final Thread writer;
+
+    /**
+     * Number of records dropped since the last report.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Number of records accepted by {@link #publish(LogRecord)}.
+     */
+    private final AtomicLong accepted = new AtomicLong();
+
+    /**
+     * Number of records written and flushed by {@link #writer}.
+     */
+    private volatile long written;
+
+    /**
+     * Whether {@link #close()} has been called.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Create an {@code AsyncHandler} holding up to {@link #CAPACITY} records.
+     *
+     * @param targets are the {@link Handler}s to write to.
+     */
+    public AsyncHandler(Handler... targets) {
+        this(CAPACITY, targets);
+    }
+
+    /**
+     * Create an {@code AsyncHandler} holding up to {@code capacity} records.
+     *
+     * @param capacity is the size of the buffer.
+     * @param targets  are the {@link Handler}s to write to.
+     *
+     * @throws IllegalArgumentException if {@code capacity} is less than 1.
+     */
+    public AsyncHandler(int capacity, Handler... targets) throws IllegalArgumentException {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.targets = targets.clone();
+
+        this.writer = new Thread(this::drain, "AsyncHandler");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Write {@link #queue} to {@link #targets} until closed and empty.
+     */
+    private void drain() {
+        final List<LogRecord> batch = new ArrayList<>(BATCH);
+
+        while (!this.closed || !this.queue.isEmpty()) {
+            try {
+                final LogRecord first = this.queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null)
+                    continue;
+                batch.add(first);
+            } catch (InterruptedException ie) {
+                continue;
+            }
+            this.queue.drainTo(batch, BATCH - 1);
+
+            final long lost = this.dropped.getAndSet(0);
+            if (lost != 0)
+                batch.add(new LogRecord(Level.WARNING, "Dropped " + lost + " log records"));
+
+            for (LogRecord record : batch)
+                for (Handler target : this.targets)
+                    target.publish(record);
+            for (Handler target : this.targets)
+                target.flush();
+
+            this.written += batch.size() - (lost != 0 ? 1 : 0);
+            batch.clear();
+
+            synchronized (this) {
+                this.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (this.closed || !this.isLoggable(record))
+            return;
+
+        if (this.queue.offer(record))
+            this.accepted.incrementAndGet();
+        else
+            this.dropped.incrementAndGet();
+    }
+
+    /**
+     * Wait until every record published so far has been written and flushed.
+     */
+    @Override
+    public void flush() {
+        final long target = this.accepted.get();
+
+        synchronized (this) {
+            while (this.written < target && this.writer.isAlive()) {
+                try {
+                    this.wait(100);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Write every record still buffered, then close every target.
+     */
+    @Override
+    public void close() throws SecurityException {
+        if (this.closed)
+            return;
+        this.closed = true;
+
+        try {
+            this.writer.join();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            this.reportError("Interrupted while closing", ie, ErrorManager.CLOSE_FAILURE);
+        }
+
+        for (Handler target : this.targets)
+            target.close();
+    }
+}
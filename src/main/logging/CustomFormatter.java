@@ -4,16 +4,29 @@ import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
 /**
- * Custom {@link Formatter} for {@link main.Chess#logger}
- * 
+ * Custom {@link Formatter} for {@link main.Minesweeper#logger}<br>
+ * Builds each line with a single {@link StringBuilder}. Printing is left to
+ * the {@link java.util.logging.Handler}, normally behind an
+ * {@link AsyncHandler}.
+ *
  * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
- * @version 2022 05 23
+ * @version 2026 10 18
  */
 public class CustomFormatter extends Formatter {
+    /**
+     * The line separator of the platform.
+     */
+    private static final String newline = System.lineSeparator();
+
     @Override
     public String format(final LogRecord record) {
-        final String line = String.format("[%s] %s%n", record.getLevel(), record.getMessage());
-        System.out.print(line);
-        return line;
+        final String message = String.valueOf(
+                record.getParameters() == null ? record.getMessage() : this.formatMessage(record));
+        final StringBuilder line = new StringBuilder(message.length() + 16);
+        line.append('[').append(record.getLevel().getName()).append("] ").append(message).append(newline);
+
+        if (record.getThrown() != null)
+            line.append(record.getThrown()).append(newline);
+        return line.toString();
     }
 }
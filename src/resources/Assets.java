@@ -0,0 +1,141 @@
+package resources;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Loads every PNG of this package from the classpath.<br>
+ * Decoding starts on first use of this class, with one task per image, and
+ * never touches the network or the working directory. A missing or unreadable
+ * image is logged and replaced by a transparent one.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+public final class Assets {
+    /**
+     * The name of every PNG in this package, without the extension.
+     */
+    public static final String[] names = { "icon", "one", "two", "three", "four", "five", "six", "seven", "eight",
+            "bomb", "flag", "incorrectFlag", "menuDefault", "menuClick", "menuGameOver" };
+
+    /**
+     * {@link Logger} shared with {@link main.Minesweeper#logger}.
+     */
+    private static final Logger logger = Logger.getLogger("Minesweeper");
+
+    /**
+     * The decoding of every image, by name.
+     */
+    private static final Map<String, CompletableFuture<BufferedImage>> images = new LinkedHashMap<>();
+
+    /**
+     * The nanoseconds spent reading and decoding each image, by name.
+     */
+    private static final Map<String, Long> timings = new ConcurrentHashMap<>();
+
+    /**
+     * {@link System#nanoTime()} when loading started.
+     */
+    private static final long start = System.nanoTime();
+
+    /**
+     * Completes with the nanoseconds taken to load every image.
+     */
+    private static final CompletableFuture<Long> total;
+
+    static {
+        for (String name : names)
+            images.put(name, CompletableFuture.supplyAsync(() -> decode(name)));
+
+        total = CompletableFuture.allOf(images.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> System.nanoTime() - start);
+    }
+
+    /**
+     * Do not instantiate.
+     */
+    private Assets() {
+    }
+
+    /**
+     * Read and decode {@code name}.png from the classpath.
+     *
+     * @param name is the name of the image.
+     *
+     * @return the decoded image, or a transparent one if it cannot be read.
+     */
+    private static BufferedImage decode(String name) {
+        final long begin = System.nanoTime();
+        BufferedImage image = null;
+
+        try (InputStream in = Assets.class.getResourceAsStream(name + ".png")) {
+            if (in == null)
+                logger.warning("Missing resource:\t" + name + ".png");
+            else
+                image = ImageIO.read(in);
+        } catch (IOException ioe) {
+            logger.throwing("Assets", "decode", ioe);
+        }
+
+        timings.put(name, System.nanoTime() - begin);
+        return image != null ? image : new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Determine the image {@code name}, waiting for it to be decoded.
+     *
+     * @param name is one of {@link #names}.
+     *
+     * @return the decoded image.
+     *
+     * @throws IllegalArgumentException if {@code name} is not one of
+     *                                  {@link #names}.
+     */
+    public static BufferedImage get(String name) throws IllegalArgumentException {
+        final CompletableFuture<BufferedImage> image = images.get(name);
+        if (image == null)
+            throw new IllegalArgumentException("Unknown asset: " + name);
+        return image.join();
+    }
+
+    /**
+     * Wait for every image and log how long each one took.
+     *
+     * @return the nanoseconds from the start of loading until the last image was
+     *         decoded.
+     */
+    public static long load() {
+        final long nanos = total.join();
+        if (logger.isLoggable(Level.INFO)) {
+            for (Map.Entry<String, Long> entry : timings().entrySet())
+                logger.info(String.format("Loaded %s.png in %.2f ms", entry.getKey(), entry.getValue() / 1e6));
+            logger.info(String.format("Loaded %d assets in %.2f ms", names.length, nanos / 1e6));
+        }
+        return nanos;
+    }
+
+    /**
+     * Determine how long each image took to read and decode.
+     *
+     * @return an unmodifiable {@link Map} of nanoseconds by name, holding only the
+     *         images decoded so far.
+     */
+    public static Map<String, Long> timings() {
+        final Map<String, Long> copy = new LinkedHashMap<>();
+        for (String name : names)
+            if (timings.containsKey(name))
+                copy.put(name, timings.get(name));
+        return Collections.unmodifiableMap(copy);
+    }
+}
@@ -0,0 +1,135 @@
+package main.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link Probability} against every layout of small boards.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+class ProbabilityTest {
+    /**
+     * The largest error allowed.
+     */
+    private static final double EPSILON = 1e-15;
+
+    /**
+     * Determine the chance of a bomb under every cell by counting every layout
+     * that fits what is visible on {@code engine}, taking every flag to be a bomb.
+     *
+     * @param engine is the {@link Engine} of the game.
+     *
+     * @return the chance of a bomb under {@code row * colMax + col}.
+     */
+    private static double[] bruteForce(Engine engine) {
+        final int rowMax = engine.rowMax, colMax = engine.colMax;
+        final int[] hidden = new int[rowMax * colMax];
+        int numHidden = 0, bombs = engine.numBombs;
+        for (int cell = 0; cell < hidden.length; ++cell)
+            if (engine.isFlagged(cell / colMax, cell % colMax))
+                --bombs;
+            else if (!engine.isRevealed(cell / colMax, cell % colMax))
+                hidden[numHidden++] = cell;
+
+        final long[] counts = new long[rowMax * colMax];
+        long total = 0;
+        // Visit every layout of exactly bombs hidden cells in increasing order.
+        for (int layout = (1 << bombs) - 1; layout < 1 << numHidden;) {
+            final boolean[] bomb = new boolean[rowMax * colMax];
+            for (int cell = 0; cell < bomb.length; ++cell)
+                bomb[cell] = engine.isFlagged(cell / colMax, cell % colMax);
+            for (int i = 0; i < numHidden; ++i)
+                bomb[hidden[i]] |= (layout >>> i & 1) != 0;
+            if (fits(engine, bomb)) {
+                ++total;
+                for (int cell = 0; cell < bomb.length; ++cell)
+                    if (bomb[cell])
+                        ++counts[cell];
+            }
+
+            if (layout == 0)
+                break;
+            final int low = layout & -layout, next = layout + low;
+            layout = ((next ^ layout) >>> 2) / low | next;
+        }
+
+        final double[] chance = new double[rowMax * colMax];
+        for (int cell = 0; cell < chance.length; ++cell)
+            chance[cell] = (double) counts[cell] / total;
+        return chance;
+    }
+
+    /**
+     * Determine if {@code bomb} matches every revealed number of {@code engine}.
+     *
+     * @param engine is the {@link Engine} of the game.
+     * @param bomb   is the layout, indexed by {@code row * colMax + col}.
+     *
+     * @return {@code true} if the layout fits.
+     */
+    private static boolean fits(Engine engine, boolean[] bomb) {
+        for (int row = 0; row < engine.rowMax; ++row)
+            for (int col = 0; col < engine.colMax; ++col) {
+                if (!engine.isRevealed(row, col))
+                    continue;
+                int count = 0;
+                for (int r = Math.max(row - 1, 0); r <= Math.min(row + 1, engine.rowMax - 1); ++r)
+                    for (int c = Math.max(col - 1, 0); c <= Math.min(col + 1, engine.colMax - 1); ++c)
+                        if (bomb[r * engine.colMax + c])
+                            ++count;
+                if (count != engine.getCount(row, col))
+                    return false;
+            }
+        return true;
+    }
+
+    /**
+     * Compare {@link Probability#compute()} with {@link #bruteForce(Engine)} on
+     * {@code games} games, each opened with a click, a few safe reveals and a few
+     * correct flags.
+     *
+     * @param rowMax   is the number of rows.
+     * @param colMax   is the number of columns.
+     * @param numBombs is the number of bombs.
+     * @param games    is the number of games.
+     */
+    private static void matches(int rowMax, int colMax, int numBombs, int games) {
+        final Engine engine = new Engine(rowMax, colMax, numBombs, null, false);
+        final SplittableRandom random = new SplittableRandom(1);
+
+        for (long seed = 0; seed < games; ++seed) {
+            engine.reset(seed);
+            engine.reveal(random.nextInt(rowMax), random.nextInt(colMax));
+            for (int i = 0; i < 6; ++i) {
+                final int row = random.nextInt(rowMax), col = random.nextInt(colMax);
+                if (engine.isRevealed(row, col) || engine.isFlagged(row, col))
+                    continue;
+                if (!engine.isBomb(row, col))
+                    engine.reveal(row, col);
+                else if (i % 2 == 0)
+                    engine.toggleFlag(row, col);
+            }
+            if (engine.getGameOver())
+                continue;
+
+            final double[] expected = bruteForce(engine), actual = new Probability(engine).compute();
+            for (int cell = 0; cell < expected.length; ++cell)
+                assertEquals(expected[cell], actual[cell], EPSILON, "Seed " + seed + ", cell " + cell);
+        }
+    }
+
+    @Test
+    void matchesBruteForceDense() {
+        matches(4, 6, 8, 200);
+    }
+
+    @Test
+    void matchesBruteForceSparse() {
+        matches(5, 5, 6, 200);
+    }
+}
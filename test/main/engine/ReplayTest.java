@@ -0,0 +1,91 @@
+package main.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link Replay}: every game recorded in a {@link Journal} plays back
+ * to the same board.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+class ReplayTest {
+    /**
+     * The number of games recorded.
+     */
+    private static final int GAMES = 50;
+
+    /**
+     * Play a game with {@link Solver}, guessing a reveal or toggling a flag at
+     * random whenever no rule applies.
+     *
+     * @param engine is the {@link Engine} to play on.
+     * @param random chooses the guesses.
+     */
+    static void play(Engine engine, SplittableRandom random) {
+        final Solver solver = new Solver(engine);
+        engine.reveal(engine.rowMax / 2, engine.colMax / 2);
+        while (!solver.solve() && !engine.getGameOver()) {
+            final int row = random.nextInt(engine.rowMax), col = random.nextInt(engine.colMax);
+            if (random.nextInt(4) == 0)
+                engine.toggleFlag(row, col);
+            else if (!engine.isFlagged(row, col))
+                engine.reveal(row, col);
+        }
+    }
+
+    /**
+     * Describe every cell of {@code engine} and its counters.
+     *
+     * @param engine is the {@link Engine} to describe.
+     *
+     * @return a row major string of the cells: {@code F} for a flag, the count of
+     *         a revealed cell, {@code *} for a hidden bomb and {@code .} for a
+     *         hidden cell, followed by the counters.
+     */
+    static String state(Engine engine) {
+        final StringBuilder str = new StringBuilder();
+        for (int row = 0; row < engine.rowMax; ++row)
+            for (int col = 0; col < engine.colMax; ++col)
+                if (engine.isFlagged(row, col))
+                    str.append('F');
+                else if (engine.isRevealed(row, col))
+                    str.append(engine.getCount(row, col));
+                else
+                    str.append(engine.isBomb(row, col) ? '*' : '.');
+        return str.append(' ').append(engine.getNumReveal()).append(' ').append(engine.getFlags()).append(' ')
+                .append(engine.getGameOver()).append(' ').append(engine.isWon()).toString();
+    }
+
+    @Test
+    void replayedGamesMatch(@TempDir Path dir) throws IOException {
+        final Path path = dir.resolve("test.journal");
+        final List<String> played = new ArrayList<>();
+
+        try (Journal journal = new Journal(path)) {
+            final Engine engine = new Engine(16, 30, 99, null, false);
+            for (int game = 0; game < GAMES; ++game) {
+                engine.reset(game);
+                if (game == 0)
+                    engine.setJournal(journal);
+                play(engine, new SplittableRandom(game));
+                played.add(state(engine));
+            }
+        }
+
+        final List<Replay> games = Replay.read(path);
+        assertEquals(GAMES, games.size());
+        for (int game = 0; game < GAMES; ++game)
+            assertEquals(played.get(game), state(games.get(game).play(new Engine(16, 30, 99, null, false))),
+                    "Game " + game);
+    }
+}
@@ -0,0 +1,58 @@
+package main.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests of {@link Snapshot}: a saved game restores to the same board and plays
+ * on the same way.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+class SnapshotTest {
+    @Test
+    void firstClickAfterRestore(@TempDir Path dir) throws IOException {
+        final Path path = dir.resolve("save.snapshot");
+        final Engine engine = new Engine(16, 30, 99, null, false);
+
+        for (long seed = 0; seed < 20; ++seed) {
+            engine.reset(seed);
+            engine.toggleFlag(0, 0);
+            Snapshot.write(engine, seed, path);
+
+            // The first click moves a bomb from under it with the same draws.
+            final Engine restored = Snapshot.read(path).restore();
+            engine.reveal(8, 15);
+            restored.reveal(8, 15);
+            assertEquals(ReplayTest.state(engine), ReplayTest.state(restored), "Seed " + seed);
+        }
+    }
+
+    @Test
+    void roundTrip(@TempDir Path dir) throws IOException {
+        final Path path = dir.resolve("save.snapshot");
+        final Engine engine = new Engine(16, 30, 99, null, false);
+        final Engine other = new Engine(16, 30, 99, null, false);
+
+        for (long seed = 0; seed < 20; ++seed) {
+            engine.reset(seed);
+            ReplayTest.play(engine, new SplittableRandom(seed));
+            Snapshot.write(engine, seed * 1_000_000_007L, path);
+
+            final Snapshot snapshot = Snapshot.read(path);
+            assertEquals(seed * 1_000_000_007L, snapshot.elapsed);
+            final Engine restored = snapshot.restore();
+            snapshot.restore(other);
+            assertEquals(engine.getSeed(), restored.getSeed());
+            assertEquals(ReplayTest.state(engine), ReplayTest.state(restored), "Seed " + seed);
+            assertEquals(ReplayTest.state(engine), ReplayTest.state(other), "Seed " + seed);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package main.engine;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link Solver} on the games of {@link Generator}: a no-guess game is
+ * always won without a guess.
+ *
+ * @author Mr. P&#x03B9;&#x03B7;&#x03B5;&#x03B1;&#x03C1;&#x03C1;l&#x03BE;
+ * @version 2026 10 18
+ */
+class SolverTest {
+    /**
+     * The nanoseconds allowed for every search, well above
+     * {@link Generator#BUDGET} so a slow machine still finds a game.
+     */
+    private static final long BUDGET = 30_000_000_000L;
+
+    /**
+     * Generate no-guess games from {@code seeds} seeds and solve each one.
+     *
+     * @param rowMax   is the number of rows.
+     * @param colMax   is the number of columns.
+     * @param numBombs is the number of bombs.
+     * @param seeds    is the number of games.
+     */
+    private static void neverLoses(int rowMax, int colMax, int numBombs, int seeds) {
+        final Engine template = new Engine(rowMax, colMax, numBombs, null, false);
+        final Engine engine = new Engine(rowMax, colMax, numBombs, null, false);
+
+        for (long seed = 0; seed < seeds; ++seed) {
+            final int row = (int) (seed % rowMax), col = (int) (seed * 7 % colMax);
+            template.reset(seed);
+            final OptionalLong game = Generator.noGuess(template, row, col, BUDGET);
+            assertTrue(game.isPresent(), "No game for seed " + seed);
+
+            engine.reset(game.getAsLong());
+            engine.reveal(row, col);
+            assertTrue(new Solver(engine).solve(), "Seed " + seed + " lost or needs a guess");
+        }
+    }
+
+    @Test
+    void neverLosesBeginner() {
+        neverLoses(9, 9, 10, 50);
+    }
+
+    @Test
+    void neverLosesExpert() {
+        neverLoses(16, 30, 99, 5);
+    }
+
+    @Test
+    void neverLosesIntermediate() {
+        neverLoses(16, 16, 40, 20);
+    }
+}